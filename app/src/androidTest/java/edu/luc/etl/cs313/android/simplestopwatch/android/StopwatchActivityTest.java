@@ -1,9 +1,17 @@
 package edu.luc.etl.cs313.android.simplestopwatch.android;
 
+import android.os.Looper;
+import android.view.Choreographer;
+
 import androidx.test.filters.SmallTest;
+import androidx.test.platform.app.InstrumentationRegistry;
 import androidx.test.rule.ActivityTestRule;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
 import org.junit.Rule;
 import org.junit.runner.RunWith;
 
@@ -22,12 +30,40 @@ import edu.luc.etl.cs313.android.simplestopwatch.test.android.AbstractStopwatchA
 @SmallTest
 public class StopwatchActivityTest extends AbstractStopwatchActivityTest {
 
+    /**
+     * Launched by each test only after the journal of the previous test is deleted.
+     */
     @Rule
     public final ActivityTestRule<StopwatchAdapter> activityRule =
-            new ActivityTestRule<>(StopwatchAdapter.class);
+            new ActivityTestRule<>(StopwatchAdapter.class, false, false);
+
+    @Before
+    public void setUp() {
+        StopwatchAdapter.getJournalFile(InstrumentationRegistry.getInstrumentation().getTargetContext()).delete();
+        activityRule.launchActivity(null);
+    }
 
     @Override
     protected StopwatchAdapter getActivity() {
         return activityRule.getActivity();
     }
+
+    /**
+     * Waits for the next frame, with which the latest updates are rendered.
+     * On the UI thread itself, waiting would block that frame, so it returns right away.
+     */
+    @Override
+    protected void runUiThreadTasks() {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            return;
+        }
+        final var frame = new CountDownLatch(1);
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(() ->
+                Choreographer.getInstance().postFrameCallback(frameTimeNanos -> frame.countDown()));
+        try {
+            frame.await(1, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package edu.luc.etl.cs313.android.simplestopwatch.android;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.media.AudioAttributes;
+import android.media.RingtoneManager;
+import android.media.SoundPool;
+import android.net.Uri;
+import android.util.Log;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+
+import java.io.IOException;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+
+/**
+ * Plays alarm sounds through a SoundPool. The model requests sounds by the alarm ids
+ * of {@link Constants}, which this player maps to the default sounds of ringtone types.
+ * Each sound is decoded once, when preloaded,
+ * and afterwards played without blocking the calling thread. At most
+ * {@link #MAX_STREAMS} alarms sound at the same time; further requests replace the oldest.
+ */
+public class AlarmPlayer {
+
+    private static String TAG = "stopwatch-android-alarm";
+
+    /**
+     * The maximum number of alarm sounds playing at the same time.
+     */
+    static final int MAX_STREAMS = 2;
+
+    /**
+     * The ringtone type of each alarm id.
+     */
+    private static final int[] RINGTONE_TYPES = new int[Constants.DEFAULT_ALARM + 1];
+
+    static {
+        RINGTONE_TYPES[Constants.DEFAULT_ALARM] = RingtoneManager.TYPE_NOTIFICATION;
+    }
+
+    private final Context context;
+
+    private final SoundPool soundPool;
+
+    /**
+     * The sample id for each requested alarm id, zero if it could not be loaded.
+     */
+    private final SparseIntArray samples = new SparseIntArray();
+
+    /**
+     * The samples that have finished decoding.
+     */
+    private final SparseBooleanArray loaded = new SparseBooleanArray();
+
+    /**
+     * The samples requested to play before they finished decoding.
+     */
+    private final SparseBooleanArray pending = new SparseBooleanArray();
+
+    /**
+     * Creates an alarm player. Load-completion callbacks arrive on the thread that created it.
+     *
+     * @param context The context used to resolve the ringtone sounds.
+     */
+    public AlarmPlayer(final Context context) {
+        this.context = context.getApplicationContext();
+        soundPool = new SoundPool.Builder()
+                .setMaxStreams(MAX_STREAMS)
+                .setAudioAttributes(new AudioAttributes.Builder()
+                        .setUsage(AudioAttributes.USAGE_ALARM)
+                        .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
+                        .build())
+                .build();
+        soundPool.setOnLoadCompleteListener(this::onLoadComplete);
+    }
+
+    /**
+     * Starts decoding the sound of the given alarm id, unless already done.
+     *
+     * @param alarm The alarm id (from Constants).
+     */
+    public synchronized void preload(final int alarm) {
+        if (samples.indexOfKey(alarm) >= 0) {
+            return;
+        }
+        final Uri sound = RingtoneManager.getDefaultUri(RINGTONE_TYPES[alarm]);
+        var sample = 0;
+        try (AssetFileDescriptor descriptor = context.getContentResolver().openAssetFileDescriptor(sound, "r")) {
+            if (descriptor != null) {
+                // the pool duplicates the file descriptor, so it may be closed right away
+                sample = soundPool.load(descriptor, 1);
+            }
+        } catch (final IOException | RuntimeException e) {
+            Log.w(TAG, "cannot load alarm sound " + sound, e);
+        }
+        samples.put(alarm, sample);
+    }
+
+    /**
+     * Plays the sound of the given alarm id without waiting for it.
+     * If the sound is still being decoded, it plays as soon as decoding finishes.
+     *
+     * @param alarm The alarm id (from Constants).
+     */
+    public void play(final int alarm) {
+        final int sample;
+        synchronized (this) {
+            preload(alarm);
+            sample = samples.get(alarm);
+            if (sample == 0) {
+                return;
+            }
+            if (!loaded.get(sample)) {
+                pending.put(sample, true);
+                return;
+            }
+        }
+        soundPool.play(sample, 1f, 1f, 1, 0, 1f);
+    }
+
+    /**
+     * Releases the sound pool and all decoded sounds.
+     */
+    public void release() {
+        soundPool.release();
+    }
+
+    private void onLoadComplete(final SoundPool pool, final int sample, final int status) {
+        final boolean play;
+        synchronized (this) {
+            if (status != 0) {
+                Log.w(TAG, "cannot decode alarm sound, status " + status);
+                return;
+            }
+            loaded.put(sample, true);
+            play = pending.get(sample);
+            pending.delete(sample);
+        }
+        if (play) {
+            pool.play(sample, 1f, 1f, 1, 0, 1f);
+        }
+    }
+}
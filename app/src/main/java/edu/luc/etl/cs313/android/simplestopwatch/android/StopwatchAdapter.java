@@ -1,23 +1,24 @@
 package edu.luc.etl.cs313.android.simplestopwatch.android;
 
 import android.app.Activity;
-import android.app.AlarmManager;
+import android.content.Context;
 import android.content.pm.ActivityInfo;
-import android.media.AudioAttributes;
-import android.media.MediaPlayer;
-import android.media.Ringtone;
-import android.media.RingtoneManager;
-import android.net.Uri;
 import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.util.Log;
+import android.view.Choreographer;
 import android.view.Menu;
 import android.view.OrientationEventListener;
 import android.view.View;
 import android.widget.EditText;
 import android.widget.TextView;
-import android.content.Context;
 
+import java.io.File;
 import java.io.IOException;
+import java.text.DecimalFormatSymbols;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import edu.luc.etl.cs313.android.simplestopwatch.R;
 import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
@@ -35,11 +36,66 @@ public class StopwatchAdapter extends Activity implements StopwatchModelListener
 
     private static String TAG = "stopwatch-android-activity";
 
+    /**
+     * The name of the file in which the stopwatch state is journaled.
+     */
+    private static final String JOURNAL_FILE = "stopwatch.journal";
+
     /**
      * The state-based dynamic model.
      */
     private StopwatchModelFacade model;
 
+    /**
+     * Plays the alarm sounds requested by the model.
+     */
+    private AlarmPlayer alarmPlayer;
+
+    // views bound once in onCreate
+    private TextView seconds;
+    private TextView stateName;
+    private EditText userTime;
+    private TextView text;
+
+    /**
+     * The display name of each state, indexed by its id and resolved once in onCreate.
+     */
+    private final String[] stateLabels = new String[Constants.STATE_ALARMING + 1];
+
+    /**
+     * The runtime the user entered, parsed and validated on the UI thread as it is typed,
+     * so that the model can read it from any thread without touching the view.
+     */
+    private volatile int userRuntime = Constants.UI_DEFAULT;
+
+    /**
+     * Schedules the coalesced view updates for the next frame of the UI thread,
+     * where the activity is created.
+     */
+    private final Choreographer choreographer = Choreographer.getInstance();
+
+    /**
+     * Whether a render of the latest values is already scheduled for the next frame.
+     */
+    private final AtomicBoolean renderPending = new AtomicBoolean();
+
+    private final Choreographer.FrameCallback render = frameTimeNanos -> render();
+
+    /**
+     * Renders the time without allocating, using the digits of the default locale.
+     */
+    private final TimeRenderer timeRenderer =
+            new TimeRenderer(DecimalFormatSymbols.getInstance(Locale.getDefault()).getZeroDigit());
+
+    // latest values published by the model, possibly from a non-UI thread;
+    // the state as its id, -1 until the first update
+    private volatile int latestTime;
+    private volatile int latestStateId = -1;
+
+    // values currently shown, only accessed on the UI thread
+    private int renderedTime = Integer.MIN_VALUE;
+    private int renderedStateId = -1;
+
     /**
      * Setter method for the state-based dynamic model.
      *
@@ -59,10 +115,26 @@ public class StopwatchAdapter extends Activity implements StopwatchModelListener
         super.onCreate(savedInstanceState);
         // inject dependency on view so this adapter receives UI events
         setContentView(R.layout.activity_main);
+        seconds = findViewById(R.id.seconds);
+        stateName = findViewById(R.id.stateName);
+        userTime = findViewById(R.id.userTime);
+        text = findViewById(R.id.text);
+        for (var id = 0; id < stateLabels.length; id++) {
+            stateLabels[id] = getString(stateName(id));
+        }
+        userRuntime = parseUserRuntime(userTime.getText());
+        userTime.addTextChangedListener(new TextWatcher() {
+            @Override public void beforeTextChanged(final CharSequence s, final int start, final int count, final int after) { }
+            @Override public void onTextChanged(final CharSequence s, final int start, final int before, final int count) { }
+            @Override public void afterTextChanged(final Editable s) { userRuntime = parseUserRuntime(s); }
+        });
         // inject dependency on model into this so model receives UI events
-        this.setModel(new ConcreteStopwatchModelFacade());
+        this.setModel(createModel());
         // inject dependency on this into model to register for UI updates
         model.setModelListener(this);
+        // decode the alarm sound up front so that sounding it never blocks the model
+        alarmPlayer = new AlarmPlayer(this);
+        alarmPlayer.preload(Constants.DEFAULT_ALARM);
 
         OrientationEventListener orientationEventListener = new OrientationEventListener(this) {
             @Override
@@ -82,6 +154,32 @@ public class StopwatchAdapter extends Activity implements StopwatchModelListener
         orientationEventListener.enable();
     }
 
+    /**
+     * Creates a model that journals its state in the app's files,
+     * or one that does not if the journal cannot be opened.
+     *
+     * @return The model facade.
+     */
+    private StopwatchModelFacade createModel() {
+        try {
+            return new ConcreteStopwatchModelFacade(getJournalFile(this));
+        } catch (final IOException e) {
+            Log.w(TAG, "cannot open journal, state will not survive a restart", e);
+            return new ConcreteStopwatchModelFacade();
+        }
+    }
+
+    /**
+     * Returns the file in which the stopwatch state is journaled, so that tests
+     * can delete it and start each scenario from a stopped stopwatch.
+     *
+     * @param context The context of the app.
+     * @return The journal file.
+     */
+    public static File getJournalFile(final Context context) {
+        return new File(context.getFilesDir(), JOURNAL_FILE);
+    }
+
     public void changeOrientation(int orientation) {
         setRequestedOrientation(orientation);
     }
@@ -104,6 +202,17 @@ public class StopwatchAdapter extends Activity implements StopwatchModelListener
         model.start();
     }
 
+    /**
+     * Stops the model and releases the alarm sounds when the Activity is destroyed.
+     */
+    @Override
+    protected void onDestroy() {
+        model.stop();
+        choreographer.removeFrameCallback(render);
+        alarmPlayer.release();
+        super.onDestroy();
+    }
+
     // TODO remaining lifecycle methods
 
     /**
@@ -112,31 +221,68 @@ public class StopwatchAdapter extends Activity implements StopwatchModelListener
      * @param time The time to update to the UI.
      */
     public void onTimeUpdate(final int time) {
-        // UI adapter responsibility to schedule incoming events on UI thread
-        runOnUiThread(() -> {
-            final TextView tvS = findViewById(R.id.seconds);
-            // final TextView tvM = findViewById(R.id.minutes);
-            final var locale = Locale.getDefault();
-            tvS.setText(String.format(locale,"%02d", time));
-            // tvM.setText(String.format(locale,"%02d", time / Constants.SEC_PER_MIN));
-        });
+        latestTime = time;
+        publish();
     }
 
     /**
      * Updates the state name in the UI and hides the input field when not Stopped.
+     * The name is one of the labels resolved in onCreate.
      *
-     * @param stateId The state name to update in the UI.
+     * @param stateId The id of the new state (from Constants).
      */
     public void onStateUpdate(final int stateId) {
-        // UI adapter responsibility to schedule incoming events on UI thread
-        runOnUiThread(() -> {
-            final TextView stateName = findViewById(R.id.stateName);
-            stateName.setText(getString(stateId));
+        latestStateId = stateId;
+        publish();
+    }
 
-            final EditText userTime = findViewById(R.id.userTime);
-            final TextView text = findViewById(R.id.text);
+    /**
+     * Maps the given state id of the model to the resource id of its display name.
+     *
+     * @param stateId The state id (from Constants).
+     * @return The string resource id of the state name.
+     */
+    private static int stateName(final int stateId) {
+        switch (stateId) {
+            case Constants.STATE_RUNNING:
+                return R.string.RUNNING;
+            case Constants.STATE_INCREMENTING:
+                return R.string.INCREMENTING;
+            case Constants.STATE_ALARMING:
+                return R.string.ALARMING;
+            default:
+                return R.string.STOPPED;
+        }
+    }
 
-            if (stateId == R.string.STOPPED) {
+    /**
+     * Makes the latest time and state visible with the next frame, from any thread.
+     * All updates published before that frame result in a single render.
+     */
+    private void publish() {
+        // UI adapter responsibility to schedule incoming events on UI thread
+        if (renderPending.compareAndSet(false, true)) {
+            choreographer.postFrameCallback(render);
+        }
+    }
+
+    /**
+     * Shows the latest time and state, touching only the views whose value changed.
+     */
+    private void render() {
+        // clear first so that values published from now on schedule another render
+        renderPending.set(false);
+        final int time = latestTime;
+        final int stateId = latestStateId;
+        if (time != renderedTime) {
+            renderedTime = time;
+            final int length = timeRenderer.render(time, TimeRenderer.Format.SECONDS);
+            seconds.setText(timeRenderer.getBuffer(), 0, length);
+        }
+        if (stateId != renderedStateId && stateId >= 0 && stateId < stateLabels.length) {
+            renderedStateId = stateId;
+            stateName.setText(stateLabels[stateId]);
+            if (stateId == Constants.STATE_STOPPED) {
                 userTime.setVisibility(View.VISIBLE);
                 text.setVisibility(View.VISIBLE);
             }
@@ -144,27 +290,17 @@ public class StopwatchAdapter extends Activity implements StopwatchModelListener
                 userTime.setVisibility(View.GONE);
                 text.setVisibility(View.GONE);
             }
-        });
+        }
     }
 
     /**
-     * Prepares media player to play the alarm sound.
-     * To change the alarm being played, change RingtoneManager.
+     * Plays the alarm sound without blocking the calling thread.
+     * The alarm player maps the alarm id to the sound being played.
      *
-     * @param notification_sound The sound to use for the notification (from RingtoneManager).
+     * @param notification_sound The alarm id of the sound to play (from Constants).
      */
     public void soundAlarm(final int notification_sound) {
-        final Uri sound = RingtoneManager.getDefaultUri(notification_sound);
-        final MediaPlayer mediaplayer = new MediaPlayer();
-        final Context context = getApplicationContext();
-        try {
-            mediaplayer.setDataSource(context, sound);
-            mediaplayer.prepare();
-            mediaplayer.setOnCompletionListener(MediaPlayer::release);
-            mediaplayer.start();
-        } catch(final Exception e) {
-            throw new RuntimeException(e);
-        }
+        alarmPlayer.play(notification_sound);
     }
 
     /**
@@ -177,18 +313,33 @@ public class StopwatchAdapter extends Activity implements StopwatchModelListener
     }
 
     /**
-     * Using EditText object, obtains the user number for the UI.
-     * Still ensures that this new number is less than Constants.SEC_MAX.
+     * Returns the number the user entered, as last parsed from the EditText object.
+     * Safe to call from the model's thread, as it does not touch the view.
      * */
     @Override
     public int getUserRuntime() {
-        String stringNum = ((EditText)findViewById(R.id.userTime)).getText().toString();
-        if (!stringNum.isEmpty()) {
-            int intNum = Integer.parseInt(stringNum);
-            if (intNum > Constants.SEC_MAX) { intNum = Constants.SEC_MAX; }
-            return intNum;
-        } else {
+        return userRuntime;
+    }
+
+    /**
+     * Parses the entered text into a runtime, which is at most Constants.SEC_MAX.
+     *
+     * @param input The text of the input field.
+     * @return The runtime, or Constants.UI_DEFAULT if no number was entered.
+     */
+    private static int parseUserRuntime(final CharSequence input) {
+        if (input.length() == 0) {
             return Constants.UI_DEFAULT;
         }
+        var result = 0;
+        for (var i = 0; i < input.length(); i++) {
+            final var c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return Constants.UI_DEFAULT;
+            }
+            // stop accumulating once past the maximum, so long inputs cannot overflow
+            result = Math.min(Constants.SEC_MAX + 1, result * 10 + (c - '0'));
+        }
+        return Math.min(result, Constants.SEC_MAX);
     }
 }
@@ -0,0 +1,115 @@
+package edu.luc.etl.cs313.android.simplestopwatch.android;
+
+import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.SEC_PER_HOUR;
+import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.SEC_PER_MIN;
+
+/**
+ * Renders a time given in seconds into a reusable character buffer, without allocating,
+ * for display through {@code TextView.setText(char[], int, int)}.
+ * Each field is padded to at least two digits, like {@code String.format("%02d", ...)}.
+ * Not thread-safe; intended for use on the UI thread only.
+ */
+public class TimeRenderer {
+
+    /**
+     * The supported display formats.
+     */
+    public enum Format {
+        /** Seconds only, e.g. 05. */
+        SECONDS,
+        /** Minutes and seconds, e.g. 01:05. */
+        MINUTES_SECONDS,
+        /** Hours, minutes and seconds, e.g. 00:01:05. */
+        HOURS_MINUTES_SECONDS
+    }
+
+    /**
+     * Large enough for a sign, the ten digits of any int, and two more fields with separators.
+     */
+    private static final int CAPACITY = 20;
+
+    private final char[] buffer = new char[CAPACITY];
+
+    private final char zeroDigit;
+
+    private int length;
+
+    /**
+     * Creates a renderer using ASCII digits.
+     */
+    public TimeRenderer() {
+        this('0');
+    }
+
+    /**
+     * Creates a renderer using the digits starting at the given zero digit,
+     * typically the locale's {@code DecimalFormatSymbols.getZeroDigit()}.
+     *
+     * @param zeroDigit The character representing the digit zero.
+     */
+    public TimeRenderer(final char zeroDigit) {
+        this.zeroDigit = zeroDigit;
+    }
+
+    /**
+     * Renders the given time into the buffer, replacing its previous contents.
+     *
+     * @param time The time in seconds.
+     * @param format The display format.
+     * @return The number of characters rendered, starting at index 0 of the buffer.
+     */
+    public int render(final int time, final Format format) {
+        length = 0;
+        long seconds = time;
+        if (seconds < 0) {
+            buffer[length++] = '-';
+            seconds = -seconds;
+        }
+        switch (format) {
+            case HOURS_MINUTES_SECONDS:
+                appendField(seconds / SEC_PER_HOUR);
+                buffer[length++] = ':';
+                appendField(seconds % SEC_PER_HOUR / SEC_PER_MIN);
+                buffer[length++] = ':';
+                appendField(seconds % SEC_PER_MIN);
+                break;
+            case MINUTES_SECONDS:
+                appendField(seconds / SEC_PER_MIN);
+                buffer[length++] = ':';
+                appendField(seconds % SEC_PER_MIN);
+                break;
+            default:
+                appendField(seconds);
+                break;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the buffer holding the most recently rendered time.
+     *
+     * @return The character buffer, valid up to the length returned by the last render.
+     */
+    public char[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Appends the given non-negative value with at least two digits.
+     */
+    private void appendField(final long value) {
+        var digits = 1;
+        for (var v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        if (digits < 2) {
+            buffer[length++] = zeroDigit;
+        }
+        var v = value;
+        for (var i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (char) (zeroDigit + v % 10);
+            v /= 10;
+        }
+        length += digits;
+    }
+}
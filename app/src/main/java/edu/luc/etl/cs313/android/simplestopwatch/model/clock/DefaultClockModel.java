@@ -1,41 +0,0 @@
-package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
-
-import java.util.Timer;
-import java.util.TimerTask;
-
-/**
- * An implementation of the internal clock.
- *
- * @author laufer
- */
-public class DefaultClockModel implements ClockModel {
-
-    // TODO make accurate by keeping track of partial seconds when canceled etc.
-
-    private Timer timer;
-
-    private TickListener listener;
-
-    @Override
-    public void setTickListener(final TickListener listener) {
-        this.listener = listener;
-    }
-
-    @Override
-    public void start() {
-        timer = new Timer();
-
-        // The clock model runs onTick every 1000 milliseconds
-        timer.schedule(new TimerTask() {
-            @Override public void run() {
-                // fire event
-                listener.onTick();
-            }
-        }, /*initial delay*/ 1000, /*periodic delay*/ 1000);
-    }
-
-    @Override
-    public void stop() {
-        timer.cancel();
-    }
-}
\ No newline at end of file
@@ -1,36 +0,0 @@
-package edu.luc.etl.cs313.android.simplestopwatch.model.time;
-
-import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.*;
-
-/**
- * An implementation of the stopwatch data model.
- */
-public class DefaultTimeModel implements TimeModel {
-
-    private int runningTime = 0;
-
-    @Override
-    public void resetRuntime() {
-        runningTime = 0;
-    }
-
-    @Override
-    public void incRuntime() {
-        runningTime += SEC_PER_TICK;
-    }
-
-    @Override
-    public void decRuntime() {
-        runningTime -= SEC_PER_TICK;
-    }
-
-    @Override
-    public int getRuntime() {
-        return runningTime;
-    }
-
-    @Override
-    public void setRuntime(int runtime) {
-        runningTime = runtime;
-    }
-}
\ No newline at end of file
@@ -1,15 +0,0 @@
-package edu.luc.etl.cs313.android.simplestopwatch.model.time;
-
-/**
- * The passive data model of the stopwatch.
- * It does not emit any events.
- *
- * @author laufer
- */
-public interface TimeModel {
-    void resetRuntime();
-    void incRuntime();
-    void decRuntime();
-    int getRuntime();
-    void setRuntime(int runtime);
-}
@@ -6,11 +6,13 @@ import static org.junit.Assert.assertTrue;
 
 import android.app.Activity;
 import android.content.pm.ActivityInfo;
+import android.view.View;
 import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import android.widget.Button;
+import android.widget.EditText;
 import android.widget.TextView;
 import edu.luc.etl.cs313.android.simplestopwatch.R;
 import edu.luc.etl.cs313.android.simplestopwatch.android.StopwatchAdapter;
@@ -44,6 +46,7 @@ public abstract class AbstractStopwatchActivityTest {
      */
     @Test
     public void testActivityScenarioInit() throws Throwable {
+        runUiThreadTasks();
         getActivity().runOnUiThread(() -> assertEquals(0, getDisplayedValue()));
     }
 
@@ -54,6 +57,7 @@ public abstract class AbstractStopwatchActivityTest {
      */
     @Test
     public void testActivityScenarioRun() throws Throwable {
+        runUiThreadTasks();
         getActivity().runOnUiThread(() -> {
             assertEquals(0, getDisplayedValue());
             for(int i = 0; i < 5; i++) {
@@ -83,6 +87,7 @@ public abstract class AbstractStopwatchActivityTest {
      * */
     @Test
     public void testDecrementStartAt99() throws Throwable {
+        runUiThreadTasks();
         getActivity().runOnUiThread(() -> {
             assertEquals(0, getDisplayedValue());
             for(int i = 0; i < 99; i++) {
@@ -110,9 +115,10 @@ public abstract class AbstractStopwatchActivityTest {
             for(int i = 0; i < 3; i++) {
                 assertTrue(getStartStopButton().performClick());
             }
-            assertEquals(3, getDisplayedValue());
         });
         runUiThreadTasks();
+        getActivity().runOnUiThread(() -> assertEquals(3, getDisplayedValue()));
+        runUiThreadTasks();
         Thread.sleep(3000);
         runUiThreadTasks();
         getActivity().runOnUiThread(() -> {
@@ -139,9 +145,10 @@ public abstract class AbstractStopwatchActivityTest {
             for(int i = 0; i < 7; i++) {
                 assertTrue(getStartStopButton().performClick());
             }
-            assertEquals(7, getDisplayedValue());
         });
         runUiThreadTasks();
+        getActivity().runOnUiThread(() -> assertEquals(7, getDisplayedValue()));
+        runUiThreadTasks();
         Thread.sleep(3000);
         runUiThreadTasks();
         getActivity().changeOrientation(ActivityInfo.SCREEN_ORIENTATION_LANDSCAPE);
@@ -183,8 +190,9 @@ public abstract class AbstractStopwatchActivityTest {
         getActivity().runOnUiThread(() -> {
            assertEquals(Constants.SEC_MAX - 2, getDisplayedValue());
            assertTrue(getStartStopButton().performClick());
-           assertEquals(0, getDisplayedValue());
         });
+        runUiThreadTasks();
+        getActivity().runOnUiThread(() -> assertEquals(0, getDisplayedValue()));
     }
 
     /**
@@ -239,6 +247,30 @@ public abstract class AbstractStopwatchActivityTest {
         getActivity().runOnUiThread(() -> assertTrue(getDisplayedValue() < 14));
     }
 
+    /**
+     * Verifies that an entered time, capped at the maximum, starts the countdown
+     * right away, and that the state label and input field follow the state.
+     */
+    @Test
+    public void testEnteredTime() throws Throwable {
+        getActivity().runOnUiThread(() -> {
+            getUserTime().setText("150");
+            assertTrue(getStartStopButton().performClick());
+        });
+        runUiThreadTasks();
+        getActivity().runOnUiThread(() -> {
+            assertEquals(Constants.SEC_MAX, getDisplayedValue());
+            assertEquals(getActivity().getString(R.string.RUNNING), getStateName().getText().toString());
+            assertEquals(View.GONE, getUserTime().getVisibility());
+            assertTrue(getStartStopButton().performClick());
+        });
+        runUiThreadTasks();
+        getActivity().runOnUiThread(() -> {
+            assertEquals(getActivity().getString(R.string.STOPPED), getStateName().getText().toString());
+            assertEquals(View.VISIBLE, getUserTime().getVisibility());
+        });
+    }
+
     // auxiliary methods for easy access to UI widgets
 
     protected abstract StopwatchAdapter getActivity();
@@ -256,9 +288,18 @@ public abstract class AbstractStopwatchActivityTest {
         return getActivity().findViewById(R.id.startStop);
     }
 
+    protected EditText getUserTime() {
+        return getActivity().findViewById(R.id.userTime);
+    }
+
+    protected TextView getStateName() {
+        return getActivity().findViewById(R.id.stateName);
+    }
+
     /**
      * Explicitly runs tasks scheduled to run on the UI thread in case this is required
-     * by the testing framework, e.g., Robolectric.
+     * by the testing framework, e.g., Robolectric, including the next frame,
+     * with which the latest updates from the model are rendered.
      */
     protected void runUiThreadTasks() { }
 
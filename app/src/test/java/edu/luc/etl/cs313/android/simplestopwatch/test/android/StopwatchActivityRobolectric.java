@@ -1,10 +1,13 @@
 package edu.luc.etl.cs313.android.simplestopwatch.test.android;
 
+import java.util.concurrent.TimeUnit;
+
 import edu.luc.etl.cs313.android.simplestopwatch.android.StopwatchAdapter;
 import org.junit.Before;
 import org.junit.runner.RunWith;
 import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
 import org.robolectric.annotation.Config;
 import org.robolectric.shadows.ShadowMediaPlayer;
 
@@ -21,10 +24,17 @@ public class StopwatchActivityRobolectric extends AbstractStopwatchActivityTest
 
     private static String TAG = "stopwatch-android-activity-robolectric";
 
+    /**
+     * The virtual time the UI thread is run for, well beyond the next frame.
+     */
+    private static final long FRAME_MILLIS = 100;
+
     private StopwatchAdapter activity;
 
     @Before
     public void setUp() {
+        // start from a stopped stopwatch rather than the state journaled by an earlier test
+        StopwatchAdapter.getJournalFile(RuntimeEnvironment.getApplication()).delete();
         activity = Robolectric.buildActivity(StopwatchAdapter.class).create().start().visible().get();
     }
 
@@ -37,6 +47,8 @@ public class StopwatchActivityRobolectric extends AbstractStopwatchActivityTest
     protected void runUiThreadTasks() {
         // Robolectric requires us to run the scheduled tasks explicitly!
         org.robolectric.shadows.ShadowLooper.runUiThreadTasks();
+        // the views are rendered with the next frame
+        org.robolectric.shadows.ShadowLooper.idleMainLooper(FRAME_MILLIS, TimeUnit.MILLISECONDS);
         org.robolectric.shadows.ShadowMediaPlayer.setMediaInfoProvider(dataSource -> new ShadowMediaPlayer.MediaInfo(1, 0));
     }
 }
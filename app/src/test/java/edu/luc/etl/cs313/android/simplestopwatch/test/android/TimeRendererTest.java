@@ -0,0 +1,79 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.android.TimeRenderer;
+import edu.luc.etl.cs313.android.simplestopwatch.android.TimeRenderer.Format;
+
+/**
+ * Testcase for the allocation-free time renderer. Runs on the plain JVM.
+ */
+public class TimeRendererTest {
+
+    private TimeRenderer renderer;
+
+    @Before
+    public void setUp() {
+        renderer = new TimeRenderer();
+    }
+
+    /**
+     * Verifies the rendering of each format, including padding and overflow of the leading field.
+     */
+    @Test
+    public void testFormats() {
+        assertEquals("00", render(0, Format.SECONDS));
+        assertEquals("05", render(5, Format.SECONDS));
+        assertEquals("99", render(99, Format.SECONDS));
+        assertEquals("125", render(125, Format.SECONDS));
+        assertEquals("02:05", render(125, Format.MINUTES_SECONDS));
+        assertEquals("100:00", render(6000, Format.MINUTES_SECONDS));
+        assertEquals("01:02:05", render(3725, Format.HOURS_MINUTES_SECONDS));
+        assertEquals("-05", render(-5, Format.SECONDS));
+        assertEquals("596523:14:07", render(Integer.MAX_VALUE, Format.HOURS_MINUTES_SECONDS));
+        assertEquals("-596523:14:08", render(Integer.MIN_VALUE, Format.HOURS_MINUTES_SECONDS));
+    }
+
+    /**
+     * Verifies that rendering matches String.format for the seconds display.
+     */
+    @Test
+    public void testMatchesStringFormat() {
+        for (var t = 0; t < 1000; t++) {
+            assertEquals(String.format("%02d", t), render(t, Format.SECONDS));
+        }
+    }
+
+    /**
+     * Verifies that steady-state rendering allocates nothing on the rendering thread.
+     * The first rounds may allocate while the JIT compiler warms up, so the test
+     * passes as soon as one complete round allocates nothing.
+     */
+    @Test
+    public void testNoAllocation() {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var id = Thread.currentThread().getId();
+        var sum = 0L;
+        var allocated = -1L;
+        for (var round = 0; round < 10 && allocated != 0; round++) {
+            final var start = threads.getThreadAllocatedBytes(id);
+            for (var i = 0; i < 100_000; i++) {
+                sum += renderer.render(i, Format.HOURS_MINUTES_SECONDS);
+                sum += renderer.render(i, Format.SECONDS);
+            }
+            allocated = threads.getThreadAllocatedBytes(id) - start;
+        }
+        assertTrue(sum > 0);
+        assertEquals(0, allocated);
+    }
+
+    private String render(final int time, final Format format) {
+        return new String(renderer.getBuffer(), 0, renderer.render(time, format));
+    }
+}
@@ -0,0 +1,83 @@
+package edu.luc.etl.cs313.android.simplestopwatch.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.DefaultClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.MonotonicClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ScheduledClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimingWheelClockModel;
+
+/**
+ * Start/stop latency and first-tick timing of the clock model implementations.
+ */
+@State(Scope.Thread)
+public class ClockModelBenchmark {
+
+    @Param({"default", "scheduled", "monotonic", "wheel"})
+    public String clock;
+
+    private ClockModel model;
+
+    private volatile CountDownLatch tick;
+
+    @Setup
+    public void setUp() {
+        switch (clock) {
+            case "default":
+                model = new DefaultClockModel();
+                break;
+            case "scheduled":
+                model = new ScheduledClockModel();
+                break;
+            case "monotonic":
+                model = new MonotonicClockModel();
+                break;
+            case "wheel":
+                model = new TimingWheelClockModel();
+                break;
+            default:
+                throw new IllegalArgumentException(clock);
+        }
+        model.setTickListener(() -> tick.countDown());
+    }
+
+    /**
+     * Cost of one start/stop cycle, which dominates when the stopwatch is cycled rapidly.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void startStop() {
+        model.start();
+        model.stop();
+    }
+
+    /**
+     * Time from start to the first tick, nominally one second.
+     * The spread of the samples around one second is the tick jitter.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 10)
+    public void firstTick() throws InterruptedException {
+        tick = new CountDownLatch(1);
+        model.start();
+        tick.await();
+        model.stop();
+    }
+}
@@ -0,0 +1,36 @@
+package edu.luc.etl.cs313.android.simplestopwatch.benchmark;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TickListener;
+
+/**
+ * A listener and clock that ignore all events, so the benchmarks measure
+ * only the model component under test.
+ */
+class NullModelListener implements StopwatchModelListener, ClockModel {
+
+    @Override
+    public void onTimeUpdate(final int timeValue) { }
+
+    @Override
+    public void onStateUpdate(final int stateId) { }
+
+    @Override
+    public void soundAlarm(final int notification_sound) { }
+
+    @Override
+    public int getUserRuntime() {
+        return Constants.UI_DEFAULT;
+    }
+
+    @Override
+    public void setTickListener(final TickListener listener) { }
+
+    @Override
+    public void start() { }
+
+    @Override
+    public void stop() { }
+}
@@ -0,0 +1,68 @@
+package edu.luc.etl.cs313.android.simplestopwatch.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.model.replay.EventLogReplayer;
+import edu.luc.etl.cs313.android.simplestopwatch.model.replay.EventLogWriter;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.DefaultStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.TableStopwatchStateMachine;
+
+/**
+ * Throughput of replaying recorded sessions, each a typical sequence of entering a time,
+ * starting, counting down, and stopping the alarm, through either state machine implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReplayBenchmark {
+
+    @Param({"default", "table"})
+    private String machine;
+
+    private EventLogReplayer replayer;
+
+    private byte[][] sessions;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        replayer = "table".equals(machine)
+                ? new EventLogReplayer(TableStopwatchStateMachine::new)
+                : new EventLogReplayer(DefaultStopwatchStateMachine::new);
+        final var random = new Random(1);
+        sessions = new byte[1024][];
+        for (var i = 0; i < sessions.length; i++) {
+            final var writer = new EventLogWriter();
+            final var runtime = 1 + random.nextInt(Constants.SEC_MAX);
+            long now = random.nextInt(5000);
+            writer.enterTime(now, runtime).button(now);
+            for (var t = 0; t <= runtime + random.nextInt(3); t++) {
+                now += Constants.TICK_PERIOD_MILLIS;
+                writer.tick(now);
+            }
+            writer.button(now + random.nextInt(2000));
+            sessions[i] = writer.toByteArray();
+        }
+    }
+
+    /**
+     * One session replayed through a fresh state machine.
+     */
+    @Benchmark
+    public long session() {
+        final var session = sessions[next++ & (sessions.length - 1)];
+        return replayer.replay(session).getChecksum();
+    }
+}
@@ -0,0 +1,89 @@
+package edu.luc.etl.cs313.android.simplestopwatch.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.DefaultStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.StopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.TableStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+
+/**
+ * Throughput of the events dispatched by the stopwatch state machine, comparing
+ * the State-pattern objects with the table-driven implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StateMachineBenchmark {
+
+    @Param({"default", "table"})
+    private String machine;
+
+    private StopwatchStateMachine running;
+
+    private StopwatchStateMachine alarming;
+
+    private StopwatchStateMachine buttons;
+
+    @Setup
+    public void setUp() {
+        running = newMachine();
+        running.enterTime(Constants.SEC_MAX);
+        running.toRunningState();
+        running.actionStart();
+        alarming = newMachine();
+        alarming.toAlarmingState();
+        alarming.actionStart();
+        buttons = newMachine();
+    }
+
+    /**
+     * A tick in the running state, refilling the runtime before it reaches zero.
+     */
+    @Benchmark
+    public int tickRunning() {
+        if (running.getRuntime() == 1) {
+            running.enterTime(Constants.SEC_MAX);
+        }
+        running.onTick();
+        return running.getRuntime();
+    }
+
+    /**
+     * A tick in the alarming state, which sounds the alarm and stays in this state.
+     */
+    @Benchmark
+    public int tickAlarming() {
+        alarming.onTick();
+        return alarming.getRuntime();
+    }
+
+    /**
+     * Button presses cycling through stopped, incrementing up to the maximum, running, and stopped again.
+     */
+    @Benchmark
+    public int button() {
+        buttons.onButton();
+        return buttons.getRuntime();
+    }
+
+    private StopwatchStateMachine newMachine() {
+        final var dependency = new NullModelListener();
+        final StopwatchStateMachine result = "table".equals(machine)
+                ? new TableStopwatchStateMachine(new DefaultTimeModel(), dependency)
+                : new DefaultStopwatchStateMachine(new DefaultTimeModel(), dependency);
+        result.setModelListener(dependency);
+        result.actionInit();
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package edu.luc.etl.cs313.android.simplestopwatch.benchmark;
+
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimingWheel;
+
+/**
+ * Cost of scheduling and canceling one periodic tick while many others are pending,
+ * comparing the java.util.Timer underlying DefaultClockModel with the timing wheel.
+ * A canceled timer task stays in the timer's queue until purged, so the timer arm
+ * purges whenever as many tasks have been canceled as are pending, keeping its queue
+ * at most twice the pending size with the purge cost amortized into each operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TickSourceBenchmark {
+
+    /**
+     * Far enough in the future that no pending tick fires during a run.
+     */
+    private static final long DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @Param({"1000", "100000"})
+    public int pending;
+
+    private Timer timer;
+
+    /**
+     * The number of timer tasks canceled since the last purge.
+     */
+    private int canceled;
+
+    private TimingWheel wheel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        timer = new Timer(true);
+        wheel = new TimingWheel();
+        for (var i = 0; i < pending; i++) {
+            timer.schedule(new TimerTask() {
+                @Override public void run() { }
+            }, DELAY_MILLIS, 1000);
+            wheel.schedule(() -> { }, DELAY_MILLIS, 1000, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        timer.cancel();
+        wheel.close();
+    }
+
+    @Benchmark
+    public void timer() {
+        final var task = new TimerTask() {
+            @Override public void run() { }
+        };
+        timer.schedule(task, DELAY_MILLIS, 1000);
+        task.cancel();
+        if (++canceled == pending) {
+            timer.purge();
+            canceled = 0;
+        }
+    }
+
+    @Benchmark
+    public void wheel() {
+        wheel.schedule(() -> { }, DELAY_MILLIS, 1000, TimeUnit.MILLISECONDS).cancel();
+    }
+}
@@ -0,0 +1,86 @@
+package edu.luc.etl.cs313.android.simplestopwatch.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.ColumnarTimeModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.TimeModel;
+
+/**
+ * Time to move many stopwatches forward by one tick, one time model object per stopwatch
+ * compared with a single columnar model. The updates alternate between counting up and down
+ * so that the runtimes do not settle at a saturation bound.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeModelBatchBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int size;
+
+    private TimeModel[] models;
+
+    private ColumnarTimeModel columnar;
+
+    private int direction = 1;
+
+    @Setup
+    public void setUp() {
+        models = new TimeModel[size];
+        columnar = new ColumnarTimeModel(size);
+        for (var i = 0; i < size; i++) {
+            models[i] = new DefaultTimeModel();
+            models[i].setRuntime(i % Constants.SEC_MAX);
+            columnar.setRuntime(i, i % Constants.SEC_MAX);
+        }
+    }
+
+    private int nextDirection() {
+        return direction = -direction;
+    }
+
+    @Benchmark
+    public TimeModel[] perObjectIncDec() {
+        final var step = nextDirection();
+        for (final var model : models) {
+            if (step > 0) {
+                model.incRuntime();
+            } else {
+                model.decRuntime();
+            }
+        }
+        return models;
+    }
+
+    @Benchmark
+    public TimeModel[] perObjectAddSeconds() {
+        final var step = nextDirection();
+        for (final var model : models) {
+            model.addSeconds(step);
+        }
+        return models;
+    }
+
+    @Benchmark
+    public ColumnarTimeModel columnarAddSeconds() {
+        columnar.addSeconds(nextDirection());
+        return columnar;
+    }
+
+    @Benchmark
+    public ColumnarTimeModel columnarAdvance() {
+        columnar.advance(nextDirection() * Constants.NANOS_PER_SEC / 2);
+        return columnar;
+    }
+}
@@ -0,0 +1,49 @@
+package edu.luc.etl.cs313.android.simplestopwatch.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.TimeModel;
+
+/**
+ * Throughput of the passive time model operations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeModelBenchmark {
+
+    private TimeModel model;
+
+    @Setup
+    public void setUp() {
+        model = new DefaultTimeModel();
+    }
+
+    @Benchmark
+    public int incRuntime() {
+        model.incRuntime();
+        return model.getRuntime();
+    }
+
+    @Benchmark
+    public int decRuntime() {
+        model.decRuntime();
+        return model.getRuntime();
+    }
+
+    @Benchmark
+    public int incDecRuntime() {
+        model.incRuntime();
+        model.decRuntime();
+        return model.getRuntime();
+    }
+}
@@ -0,0 +1,69 @@
+package edu.luc.etl.cs313.android.simplestopwatch.common;
+
+/**
+ * Constants for the time calculations used by the stopwatch.
+ */
+public enum Constants {
+
+    ;
+
+    /**
+     * Constant defined for the maximum number of seconds the timer can hold.
+     */
+    public static final int SEC_MAX = 99;
+
+    /**
+     * Constant defined as how many seconds to add to the timer when one clock tick passes.
+     */
+    public static final int SEC_PER_TICK = 1;
+
+    /**
+    * Constant defined as how many seconds in a minute.
+    */
+    public static final int SEC_PER_MIN = 60;
+
+    /**
+     * Constant defined as how many seconds in an hour.
+     */
+    public static final int SEC_PER_HOUR = 3600;
+
+    /**
+     * Constant defined as how many nanoseconds in a second.
+     */
+    public static final long NANOS_PER_SEC = 1_000_000_000L;
+
+    /**
+     * Constant defined as the time to wait before starting the stopwatch.
+     */
+    public static final int TICK_WAIT = 3;
+
+    /**
+     * Constant defined as the time between two ticks in milliseconds while the stopwatch counts.
+     */
+    public static final long TICK_PERIOD_MILLIS = 1000;
+
+    /**
+     * Constant defined as the time between two alarm sounds in milliseconds.
+     */
+    public static final long ALARM_PERIOD_MILLIS = 3000;
+
+    /**
+     * Constant defined as the default sound to use for the alarm. This is a platform-neutral
+     * id that the UI maps to an actual sound.
+     * */
+    public static final int DEFAULT_ALARM = 0;
+
+    /**
+     * Constants defined as the ids of the states reported to the UI, which maps them to
+     * their display names. They double as the stable state codes of the journal.
+     * */
+    public static final int STATE_STOPPED = 0;
+    public static final int STATE_RUNNING = 1;
+    public static final int STATE_INCREMENTING = 2;
+    public static final int STATE_ALARMING = 3;
+
+    /**
+     * Constant defined to watch for changes due to user entered time.
+     * */
+    public static final int UI_DEFAULT = Integer.MIN_VALUE;
+}
\ No newline at end of file
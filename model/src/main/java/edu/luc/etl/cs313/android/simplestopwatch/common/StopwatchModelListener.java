@@ -18,12 +18,14 @@ public interface StopwatchModelListener {
     /**
      * Listener method for detecting changes in state.
      *
-     * @param stateId The state the listener listens for.
+     * @param stateId The id of the new state, one of the state ids in {@link Constants}.
      * */
     void onStateUpdate(int stateId);
 
     /**
      * Listener method for playing an alarm sound.
+     *
+     * @param notification_sound The id of the sound, such as {@link Constants#DEFAULT_ALARM}.
      */
     void soundAlarm(final int notification_sound);
 
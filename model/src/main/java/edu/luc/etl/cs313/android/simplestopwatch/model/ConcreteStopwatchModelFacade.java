@@ -0,0 +1,175 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.AwaitableClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockMetrics;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModelFactory;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.InstrumentedClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.MonotonicClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.journal.MappedEventJournal;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.DefaultStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.EventJournal;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.SideEffectExecutor;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.StopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.TransitionTrace;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.TimeModel;
+
+/**
+ * An implementation of the model facade.
+ *
+ * @author laufer
+ */
+public class ConcreteStopwatchModelFacade implements StopwatchModelFacade {
+
+    private final StopwatchStateMachine stateMachine;
+
+    private final ClockModel clockModel;
+
+    private final TimeModel timeModel;
+
+    /**
+     * The executor for the side effects towards the listener.
+     */
+    private final Executor effects;
+
+    /**
+     * The journal from which the state is restored on start, or null if the state is not journaled.
+     */
+    private final MappedEventJournal journal;
+
+    /**
+     * Creates a facade whose clock ticks against monotonic deadlines on the shared scheduler.
+     * Side effects run directly on the dispatching thread, which suits listeners
+     * that only hand their work off, as the Android adapter does.
+     */
+    public ConcreteStopwatchModelFacade() {
+        this(MonotonicClockModel::new);
+    }
+
+    /**
+     * Creates a facade whose clock is obtained from the given factory,
+     * for example {@code TimingWheelClockModel::new} to share a timing wheel with other stopwatches.
+     *
+     * @param clockModelFactory The factory for the active clock model.
+     */
+    public ConcreteStopwatchModelFacade(final ClockModelFactory clockModelFactory) {
+        this(clockModelFactory, SideEffectExecutor.DIRECT);
+    }
+
+    /**
+     * Creates a facade whose clock is obtained from the given factory
+     * and whose side effects towards the listener run on the given executor,
+     * for example {@link edu.luc.etl.cs313.android.simplestopwatch.model.state.SideEffectExecutor#getShared()}
+     * to keep slow listeners off the clock thread. An effect executor of its own
+     * belongs to this facade from now on and is closed when the facade stops.
+     *
+     * @param clockModelFactory The factory for the active clock model.
+     * @param effects The executor for view updates and alarms.
+     */
+    public ConcreteStopwatchModelFacade(final ClockModelFactory clockModelFactory, final Executor effects) {
+        this(clockModelFactory, effects, null);
+    }
+
+    /**
+     * Creates a facade like the default one whose state is journaled to the given file,
+     * and restored from it on each start, so that the stopwatch carries on across
+     * restarts of the activity as well as of the process.
+     *
+     * @param journalFile The journal file.
+     * @throws IOException If the journal file cannot be opened.
+     */
+    public ConcreteStopwatchModelFacade(final File journalFile) throws IOException {
+        this(MonotonicClockModel::new, SideEffectExecutor.DIRECT, new MappedEventJournal(journalFile));
+    }
+
+    private ConcreteStopwatchModelFacade(final ClockModelFactory clockModelFactory, final Executor effects,
+            final MappedEventJournal journal) {
+        timeModel = new DefaultTimeModel();
+        clockModel = clockModelFactory.create();
+        this.effects = effects;
+        stateMachine = new DefaultStopwatchStateMachine(timeModel, clockModel, effects);
+        clockModel.setTickListener(stateMachine);
+        this.journal = journal;
+        if (journal != null) {
+            stateMachine.setJournal(journal);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (journal != null && journal.hasState()) {
+            journal.restoreInto(stateMachine, System.currentTimeMillis());
+        } else {
+            stateMachine.onInit();
+        }
+    }
+
+    /**
+     * Stops the clock and closes the journal, if any, after forcing it to storage.
+     * The clock and timeout are stopped through the state machine, serialized with
+     * the other events, so that no tick or timeout still queued is handled afterwards.
+     * Where the clock supports it, also waits for a tick still being delivered, so that
+     * nothing is recorded after the journal is closed. An effect executor runs the
+     * effects already queued before it is closed, so that none reach the listener
+     * after this returns.
+     */
+    @Override
+    public void stop() {
+        stateMachine.onStop();
+        if (clockModel instanceof AwaitableClockModel) {
+            try {
+                ((AwaitableClockModel) clockModel).stopAndAwait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (effects instanceof SideEffectExecutor) {
+            ((SideEffectExecutor) effects).close();
+        }
+        if (journal != null) {
+            stateMachine.setJournal(EventJournal.NONE);
+            try {
+                journal.close();
+            } catch (final IOException e) {
+                // the mapped records are already in the file
+            }
+        }
+    }
+
+    @Override
+    public void setModelListener(final StopwatchModelListener listener) {
+        stateMachine.setModelListener(listener);
+    }
+
+    @Override
+    public void onButton() {
+        stateMachine.onButton();
+    }
+
+    @Override
+    public void setTrace(final TransitionTrace trace) {
+        stateMachine.setTrace(trace);
+    }
+
+    @Override
+    public TransitionTrace getTrace() {
+        return stateMachine.getTrace();
+    }
+
+    @Override
+    public ClockMetrics getClockMetrics() {
+        return clockModel instanceof InstrumentedClockModel ? ((InstrumentedClockModel) clockModel).getMetrics() : null;
+    }
+
+    @Override
+    public SideEffectExecutor getEffectExecutor() {
+        return effects instanceof SideEffectExecutor ? (SideEffectExecutor) effects : null;
+    }
+
+}
@@ -0,0 +1,48 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Startable;
+import edu.luc.etl.cs313.android.simplestopwatch.common.Stoppable;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelSource;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchUIListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockMetrics;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.SideEffectExecutor;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.TransitionTrace;
+
+/**
+ * A thin model facade. Following the Facade pattern,
+ * this isolates the complexity of the model from its clients (usually the adapter).
+ *
+ * @author laufer
+ */
+public interface StopwatchModelFacade extends Startable, Stoppable, StopwatchUIListener, StopwatchModelSource {
+
+    /**
+     * Sets the trace to which the state machine records its transitions and actions from now on.
+     *
+     * @param trace The trace, sized by the caller, or null to stop tracing.
+     */
+    void setTrace(TransitionTrace trace);
+
+    /**
+     * Returns the trace of the state machine, which can be dumped on demand.
+     *
+     * @return The transition trace, or null if the state machine is not traced.
+     */
+    TransitionTrace getTrace();
+
+    /**
+     * Returns the live tick timing measurements of the clock, including the lateness
+     * histogram and the missed and failed ticks.
+     *
+     * @return The clock metrics, or null if the clock does not measure its ticks.
+     */
+    ClockMetrics getClockMetrics();
+
+    /**
+     * Returns the executor running the side effects towards the listener, whose queue depth,
+     * stalls, latency and dropped effects can be monitored.
+     *
+     * @return The effect executor, or null if the effects run directly on the dispatching thread.
+     */
+    SideEffectExecutor getEffectExecutor();
+}
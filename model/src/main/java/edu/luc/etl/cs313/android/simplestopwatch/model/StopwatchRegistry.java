@@ -0,0 +1,113 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimingWheel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimingWheelClockModel;
+
+/**
+ * A host for many independent stopwatches whose clocks all run on one timing wheel.
+ * Each stopwatch is a complete model behind its own facade, but none of them owns a
+ * thread, so the number of threads stays constant however many stopwatches are created.
+ * A stopwatch stays in the registry, with its timers on the wheel, until it is removed
+ * or the registry is closed.
+ */
+public class StopwatchRegistry implements Closeable {
+
+    private final TimingWheel wheel;
+
+    /**
+     * Whether the wheel was created by this registry and is therefore closed with it.
+     */
+    private final boolean ownsWheel;
+
+    private final Set<StopwatchModelFacade> stopwatches =
+            Collections.newSetFromMap(new ConcurrentHashMap<StopwatchModelFacade, Boolean>());
+
+    /**
+     * Creates a registry whose stopwatches run on a new default timing wheel,
+     * which is closed together with the registry.
+     */
+    public StopwatchRegistry() {
+        this(new TimingWheel(), true);
+    }
+
+    /**
+     * Creates a registry whose stopwatches run on the given timing wheel,
+     * which remains open when the registry is closed.
+     *
+     * @param wheel The timing wheel that drives the clocks of all stopwatches.
+     */
+    public StopwatchRegistry(final TimingWheel wheel) {
+        this(wheel, false);
+    }
+
+    private StopwatchRegistry(final TimingWheel wheel, final boolean ownsWheel) {
+        this.wheel = wheel;
+        this.ownsWheel = ownsWheel;
+    }
+
+    /**
+     * Creates and starts a new stopwatch reporting to the given listener.
+     *
+     * @param listener The listener for the UI updates of the new stopwatch.
+     * @return The facade of the new stopwatch.
+     */
+    public StopwatchModelFacade create(final StopwatchModelListener listener) {
+        final StopwatchModelFacade stopwatch = new ConcreteStopwatchModelFacade(() -> new TimingWheelClockModel(wheel));
+        stopwatch.setModelListener(listener);
+        stopwatch.start();
+        stopwatches.add(stopwatch);
+        return stopwatch;
+    }
+
+    /**
+     * Stops the given stopwatch, canceling its timers on the wheel, and removes it from this registry.
+     *
+     * @param stopwatch A stopwatch created by this registry.
+     * @return True if the stopwatch was in this registry.
+     */
+    public boolean remove(final StopwatchModelFacade stopwatch) {
+        if (!stopwatches.remove(stopwatch)) {
+            return false;
+        }
+        stopwatch.stop();
+        return true;
+    }
+
+    /**
+     * Stops and removes all stopwatches and, if this registry created its wheel, closes the wheel.
+     */
+    @Override
+    public void close() {
+        for (final StopwatchModelFacade stopwatch : stopwatches) {
+            remove(stopwatch);
+        }
+        if (ownsWheel) {
+            wheel.close();
+        }
+    }
+
+    /**
+     * Returns the number of stopwatches in this registry.
+     *
+     * @return The number of stopwatches.
+     */
+    public int size() {
+        return stopwatches.size();
+    }
+
+    /**
+     * Returns the number of timers pending on the wheel, that is, of clocks currently
+     * ticking or waiting for a timeout.
+     *
+     * @return The number of pending timers.
+     */
+    public int getRunningClocks() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,28 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+/**
+ * A clock model whose tick period can be changed while it runs, so that it only wakes
+ * up as often as its listener needs.
+ */
+public interface AdjustableClockModel extends ClockModel {
+
+    /**
+     * Sets the time between two successive ticks. A changed period takes effect
+     * immediately: the next tick is due one new period from now. A period of zero
+     * suspends the ticks until a positive period is set again; the clock remains
+     * started meanwhile.
+     *
+     * @param millis The tick period in milliseconds, or zero to suspend the ticks.
+     */
+    void setTickPeriod(long millis);
+
+    /**
+     * Starts the clock as if the given part of the first period had already elapsed,
+     * so that the first tick is due that much sooner and later ticks keep the phase
+     * they had before, for example when a stopwatch is restored. Does nothing if the
+     * clock is already started.
+     *
+     * @param elapsedNanos The part of the first period already elapsed in nanoseconds.
+     */
+    void start(long elapsedNanos);
+}
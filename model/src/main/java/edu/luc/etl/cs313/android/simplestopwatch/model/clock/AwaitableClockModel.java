@@ -0,0 +1,21 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+/**
+ * A clock model that can be stopped with a fence against its ticks. {@link #stop()}
+ * only keeps the clock from admitting further ticks: a tick admitted before may still
+ * reach the listener after it returns, for example when the clock calls the listener
+ * after releasing its lock. Only {@link #stopAndAwait()} is a fence; once it returns,
+ * no tick from before reaches the listener, so that a clock can be stopped and started
+ * again in quick succession without stale ticks.
+ */
+public interface AwaitableClockModel extends ClockModel {
+
+    /**
+     * Stops the clock and waits until the listener has returned from all ticks
+     * delivered before. When called from within a tick of this clock, for example
+     * by the listener itself, it does not wait for that tick.
+     *
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    void stopAndAwait() throws InterruptedException;
+}
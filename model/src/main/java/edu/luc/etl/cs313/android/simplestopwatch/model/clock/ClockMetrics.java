@@ -0,0 +1,122 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tick timing measurements of a clock: how late each tick fired relative to its
+ * schedule, how long the tick listener took, and how many ticks were missed,
+ * that is, became due while an earlier tick was still waiting to fire, one for
+ * each full period by which a tick fired late, and how many ticks failed because
+ * the listener threw. All durations are in nanoseconds.
+ */
+public class ClockMetrics {
+
+    private final LatencyHistogram lateness;
+
+    private final LatencyHistogram handlerDuration;
+
+    private final AtomicLong missedTicks;
+
+    private final AtomicLong failedTicks;
+
+    /**
+     * Creates empty metrics.
+     */
+    public ClockMetrics() {
+        this(new LatencyHistogram(), new LatencyHistogram(), 0, 0);
+    }
+
+    private ClockMetrics(final LatencyHistogram lateness, final LatencyHistogram handlerDuration,
+            final long missedTicks, final long failedTicks) {
+        this.lateness = lateness;
+        this.handlerDuration = handlerDuration;
+        this.missedTicks = new AtomicLong(missedTicks);
+        this.failedTicks = new AtomicLong(failedTicks);
+    }
+
+    /**
+     * Records one tick.
+     *
+     * @param lateness How late the tick fired relative to its schedule.
+     * @param handlerDuration How long the tick listener took.
+     * @param period The tick period, or zero for a single tick.
+     */
+    public void recordTick(final long lateness, final long handlerDuration, final long period) {
+        this.lateness.record(lateness);
+        this.handlerDuration.record(handlerDuration);
+        if (period > 0 && lateness >= period) {
+            // a stall of several periods misses as many ticks
+            missedTicks.addAndGet(lateness / period);
+        }
+    }
+
+    /**
+     * Records one tick whose listener threw.
+     */
+    public void recordFailure() {
+        failedTicks.incrementAndGet();
+    }
+
+    /**
+     * Returns the distribution of tick lateness.
+     *
+     * @return The lateness histogram.
+     */
+    public LatencyHistogram getLateness() {
+        return lateness;
+    }
+
+    /**
+     * Returns the distribution of tick listener durations.
+     *
+     * @return The handler duration histogram.
+     */
+    public LatencyHistogram getHandlerDuration() {
+        return handlerDuration;
+    }
+
+    /**
+     * Returns the number of missed ticks, counting each full period by which a tick fired late.
+     *
+     * @return The number of missed ticks.
+     */
+    public long getMissedTicks() {
+        return missedTicks.get();
+    }
+
+    /**
+     * Returns the number of ticks whose listener threw.
+     *
+     * @return The number of failed ticks.
+     */
+    public long getFailedTicks() {
+        return failedTicks.get();
+    }
+
+    /**
+     * Returns a copy of these metrics, unaffected by later ticks.
+     *
+     * @return The snapshot.
+     */
+    public ClockMetrics snapshot() {
+        return new ClockMetrics(lateness.snapshot(), handlerDuration.snapshot(), missedTicks.get(),
+                failedTicks.get());
+    }
+
+    /**
+     * Discards all measurements.
+     */
+    public void reset() {
+        lateness.reset();
+        handlerDuration.reset();
+        missedTicks.set(0);
+        failedTicks.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "lateness p50=" + lateness.getP50() + " p99=" + lateness.getP99() + " max=" + lateness.getMax()
+                + ", handler p50=" + handlerDuration.getP50() + " p99=" + handlerDuration.getP99()
+                + " max=" + handlerDuration.getMax() + ", missed=" + getMissedTicks() + ", failed=" + getFailedTicks();
+    }
+}
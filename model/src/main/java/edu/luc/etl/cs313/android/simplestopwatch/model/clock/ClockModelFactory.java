@@ -0,0 +1,14 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+/**
+ * A factory for clock models, used to inject the desired clock implementation
+ * into the model facade.
+ */
+public interface ClockModelFactory {
+    /**
+     * Creates a new, stopped clock model.
+     *
+     * @return The newly created clock model.
+     */
+    ClockModel create();
+}
@@ -0,0 +1,94 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A timeout service that schedules each timeout as a single task on a scheduler.
+ * Clocks that fire on a scheduler delegate their timeouts to it.
+ */
+public class DeadlineTimer implements TimeoutService {
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The task of the pending timeout, or null when none is pending.
+     */
+    private ScheduledFuture<?> pending;
+
+    /**
+     * Incremented on each arm and cancel so that a timeout replaced while firing is ignored.
+     */
+    private int generation;
+
+    /**
+     * The monotonic time at which the pending timeout expires.
+     */
+    private long deadline;
+
+    private volatile long lastLateness;
+
+    /**
+     * Creates a timer backed by the process-wide shared scheduler.
+     */
+    public DeadlineTimer() {
+        this(SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * Creates a timer backed by the given scheduler.
+     *
+     * @param scheduler The scheduler on which the timeouts are fired.
+     */
+    public DeadlineTimer(final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public synchronized void armTimeout(final long delayNanos, final TimeoutListener listener) {
+        cancelTimeout();
+        final long delay = Math.max(0, delayNanos);
+        final int armed = generation;
+        deadline = System.nanoTime() + delay;
+        pending = scheduler.schedule(() -> fire(armed, listener), delay, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void cancelTimeout() {
+        generation++;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    /**
+     * Returns whether a timeout is pending.
+     *
+     * @return True if a timeout is armed and has not yet expired or been canceled.
+     */
+    public synchronized boolean isPending() {
+        return pending != null;
+    }
+
+    /**
+     * Returns how late the most recent timeout fired relative to its deadline.
+     *
+     * @return The lateness of the most recent timeout in nanoseconds.
+     */
+    public long getLastLateness() {
+        return lastLateness;
+    }
+
+    private void fire(final int armed, final TimeoutListener listener) {
+        synchronized (this) {
+            if (armed != generation) {
+                return;
+            }
+            pending = null;
+            lastLateness = System.nanoTime() - deadline;
+        }
+        listener.onTimeout();
+    }
+}
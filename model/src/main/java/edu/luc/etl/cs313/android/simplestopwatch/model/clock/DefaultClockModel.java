@@ -0,0 +1,62 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * An implementation of the internal clock.
+ * A tick the timer has started running but that the gate has not yet admitted
+ * when the clock is stopped is dropped instead of reaching the listener.
+ *
+ * @author laufer
+ */
+public class DefaultClockModel implements AwaitableClockModel {
+
+    // TODO make accurate by keeping track of partial seconds when canceled etc.
+
+    private Timer timer;
+
+    private TickListener listener;
+
+    /**
+     * Drops the ticks of the timers of earlier starts.
+     */
+    private final TickGate gate = new TickGate();
+
+    @Override
+    public void setTickListener(final TickListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (timer != null) {
+            return;
+        }
+        timer = new Timer();
+        final var ticks = gate.open(listener);
+
+        // The clock model runs onTick every 1000 milliseconds
+        timer.schedule(new TimerTask() {
+            @Override public void run() {
+                // fire event
+                ticks.onTick();
+            }
+        }, /*initial delay*/ 1000, /*periodic delay*/ 1000);
+    }
+
+    @Override
+    public synchronized void stop() {
+        gate.close();
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+    }
+
+    @Override
+    public void stopAndAwait() throws InterruptedException {
+        stop();
+        gate.awaitIdle();
+    }
+}
\ No newline at end of file
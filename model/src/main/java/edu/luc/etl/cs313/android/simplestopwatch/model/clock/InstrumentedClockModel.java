@@ -0,0 +1,14 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+/**
+ * A clock model that measures the timing of its ticks.
+ */
+public interface InstrumentedClockModel extends ClockModel {
+
+    /**
+     * Returns the live tick timing measurements of this clock.
+     *
+     * @return The clock metrics.
+     */
+    ClockMetrics getMetrics();
+}
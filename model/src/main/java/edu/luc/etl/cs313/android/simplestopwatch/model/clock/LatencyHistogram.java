@@ -0,0 +1,148 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size histogram of non-negative durations in the style of HdrHistogram.
+ * Each power of two is split into {@link #SUB_BUCKETS} linear buckets, so any
+ * recorded value is reported within about 3% of its true value. Recording is
+ * lock-free and allocation-free and may happen concurrently from any thread.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+
+    /**
+     * The number of linear buckets per power of two.
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private static final int LENGTH = (Long.SIZE - 1 - SUB_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LENGTH);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a single value. Negative values are recorded as zero.
+     *
+     * @param value The value to record.
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        counts.incrementAndGet(indexOf(v));
+        count.incrementAndGet();
+        long current;
+        while (v > (current = max.get()) && !max.compareAndSet(current, v)) {
+            // retry until the maximum is at least v
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return The total count.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return The maximum, or zero if nothing was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of recorded values fall.
+     *
+     * @param percentile The percentile between 0 and 100.
+     * @return The value at the percentile, or zero if nothing was recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long total = 0;
+        for (var i = 0; i < LENGTH; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * total));
+        long seen = 0;
+        for (var i = 0; i < LENGTH; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Returns the median of the recorded values.
+     *
+     * @return The 50th percentile.
+     */
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    /**
+     * Returns the 99th percentile of the recorded values.
+     *
+     * @return The 99th percentile.
+     */
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    /**
+     * Returns a copy of this histogram. Values recorded while copying
+     * may or may not be included.
+     *
+     * @return The copy.
+     */
+    public LatencyHistogram snapshot() {
+        final var copy = new LatencyHistogram();
+        for (var i = 0; i < LENGTH; i++) {
+            copy.counts.set(i, counts.get(i));
+        }
+        copy.count.set(count.get());
+        copy.max.set(max.get());
+        return copy;
+    }
+
+    /**
+     * Discards all recorded values.
+     */
+    public void reset() {
+        for (var i = 0; i < LENGTH; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        max.set(0);
+    }
+
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestValueOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long mantissa = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,237 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An implementation of the internal clock that schedules each tick against an absolute
+ * {@link System#nanoTime()} deadline, so lateness of one tick does not push back the
+ * following ones. When several deadlines have passed at once, for example after the
+ * process was paused, they are delivered as a single {@link TickListener#onTicks(int)}.
+ * The part of the current second that has already elapsed when the clock
+ * is stopped is carried over to the next start.
+ */
+public class MonotonicClockModel implements InstrumentedClockModel, AdjustableClockModel, AwaitableClockModel, TimeoutService {
+
+    /**
+     * The initial time between two successive ticks in nanoseconds.
+     */
+    private static final long DEFAULT_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The one-shot timeouts, fired on the same scheduler as the ticks.
+     */
+    private final DeadlineTimer timeouts;
+
+    private TickListener listener;
+
+    /**
+     * The pending tick, or null when the clock is stopped or suspended.
+     */
+    private ScheduledFuture<?> next;
+
+    private boolean running;
+
+    /**
+     * The time between two successive ticks in nanoseconds, or zero while suspended.
+     */
+    private long period = DEFAULT_PERIOD_NANOS;
+
+    /**
+     * Moves on with each start, stop and period change so that ticks scheduled before are dropped.
+     */
+    private final TickGate gate = new TickGate();
+
+    /**
+     * The epoch of the ticks scheduled since the last start or period change.
+     */
+    private int generation;
+
+    /**
+     * The monotonic time at which the next tick is due.
+     */
+    private long deadline;
+
+    /**
+     * The part of the current period that had elapsed when the clock was last stopped.
+     */
+    private long partial;
+
+    private volatile long lastDrift;
+
+    private volatile long maxDrift;
+
+    private final ClockMetrics metrics = new ClockMetrics();
+
+    /**
+     * Creates a clock backed by the process-wide shared scheduler.
+     */
+    public MonotonicClockModel() {
+        this(SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * Creates a clock backed by the given scheduler.
+     *
+     * @param scheduler The scheduler on which the ticks are fired.
+     */
+    public MonotonicClockModel(final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        this.timeouts = new DeadlineTimer(scheduler);
+    }
+
+    @Override
+    public void setTickListener(final TickListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        resume();
+    }
+
+    @Override
+    public synchronized void start(final long elapsedNanos) {
+        if (running) {
+            return;
+        }
+        partial = Math.max(0, elapsedNanos);
+        start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        suspend();
+    }
+
+    @Override
+    public void stopAndAwait() throws InterruptedException {
+        stop();
+        gate.awaitIdle();
+    }
+
+    @Override
+    public void armTimeout(final long delayNanos, final TimeoutListener listener) {
+        timeouts.armTimeout(delayNanos, listener);
+    }
+
+    @Override
+    public void cancelTimeout() {
+        timeouts.cancelTimeout();
+    }
+
+    @Override
+    public synchronized void setTickPeriod(final long millis) {
+        final long nanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+        if (nanos == period) {
+            return;
+        }
+        if (running) {
+            suspend();
+            // a new period starts now rather than continuing the old one
+            partial = 0;
+        }
+        period = nanos;
+        if (running) {
+            resume();
+        }
+    }
+
+    private void resume() {
+        if (period == 0) {
+            return;
+        }
+        generation = gate.open();
+        deadline = System.nanoTime() + period - Math.min(partial, period - 1);
+        schedule();
+    }
+
+    private void suspend() {
+        if (next == null) {
+            return;
+        }
+        gate.close();
+        next.cancel(false);
+        next = null;
+        final long remaining = deadline - System.nanoTime();
+        partial = Math.max(0, Math.min(period - 1, period - remaining));
+    }
+
+    /**
+     * Returns how late the most recent tick fired relative to its deadline.
+     *
+     * @return The lateness of the most recent tick in nanoseconds.
+     */
+    public long getLastDrift() {
+        return lastDrift;
+    }
+
+    /**
+     * Returns the largest lateness of any tick since this clock was created.
+     *
+     * @return The maximum lateness in nanoseconds.
+     */
+    public long getMaxDrift() {
+        return maxDrift;
+    }
+
+    @Override
+    public ClockMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void schedule() {
+        final int scheduled = generation;
+        next = scheduler.schedule(() -> fire(scheduled),
+                deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private void fire(final int scheduled) {
+        final long drift;
+        final int due;
+        final long ticked;
+        synchronized (this) {
+            // admitted under the lock, so a tick is either dropped or in flight when stop returns
+            if (!gate.enter(scheduled)) {
+                return;
+            }
+            drift = System.nanoTime() - deadline;
+            lastDrift = drift;
+            if (drift > maxDrift) {
+                maxDrift = drift;
+            }
+            // catch up on all deadlines that have passed in one step
+            due = (int) Math.min(Integer.MAX_VALUE, 1 + Math.max(0, drift) / period);
+            deadline += due * period;
+            ticked = period;
+        }
+        final long fired = System.nanoTime();
+        try {
+            if (due == 1) {
+                listener.onTick();
+            } else {
+                listener.onTicks(due);
+            }
+        } finally {
+            gate.exit();
+        }
+        metrics.recordTick(drift, System.nanoTime() - fired, ticked);
+        synchronized (this) {
+            // the listener may have stopped or restarted the clock
+            if (gate.isOpen(scheduled)) {
+                schedule();
+            }
+        }
+    }
+}
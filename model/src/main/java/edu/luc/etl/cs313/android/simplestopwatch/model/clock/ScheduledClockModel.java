@@ -0,0 +1,194 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An implementation of the internal clock that schedules its ticks on a shared,
+ * reusable scheduler instead of creating a new timer thread on each start.
+ * The burst of executions a fixed-rate schedule runs after a stall is delivered
+ * as a single {@link TickListener#onTicks(int)}.
+ */
+public class ScheduledClockModel implements InstrumentedClockModel, AdjustableClockModel, AwaitableClockModel, TimeoutService {
+
+    /**
+     * The initial time between two successive ticks in milliseconds.
+     */
+    private static final long DEFAULT_PERIOD_MILLIS = 1000;
+
+    /**
+     * The ticks of one start/stop cycle or period, which know when each of them was due.
+     */
+    private final class Ticks implements Runnable {
+
+        private final long period;
+
+        private final long first;
+
+        /**
+         * The epoch of these ticks in the gate.
+         */
+        private final int epoch;
+
+        private long count;
+
+        Ticks(final long period, final long delay, final int epoch) {
+            this.period = period;
+            this.epoch = epoch;
+            first = System.nanoTime() + delay;
+        }
+
+        @Override
+        public void run() {
+            // an execution that was already running when the ticks were canceled is dropped here
+            if (!gate.enter(epoch)) {
+                return;
+            }
+            try {
+                deliver();
+            } finally {
+                gate.exit();
+            }
+        }
+
+        private void deliver() {
+            final long fired = System.nanoTime();
+            // the ticks of the burst after a stall are all delivered by its first execution
+            final long due = Math.max(0, fired - first) / period + 1 - count;
+            if (due <= 0) {
+                return;
+            }
+            final long lateness = fired - (first + count * period);
+            count += due;
+            if (due == 1) {
+                listener.onTick();
+            } else {
+                listener.onTicks((int) Math.min(Integer.MAX_VALUE, due));
+            }
+            metrics.recordTick(lateness, System.nanoTime() - fired, period);
+        }
+    }
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The one-shot timeouts, fired on the same scheduler as the ticks.
+     */
+    private final DeadlineTimer timeouts;
+
+    /**
+     * The ticks scheduled, or null when the clock is stopped or suspended.
+     */
+    private ScheduledFuture<?> ticks;
+
+    private boolean running;
+
+    /**
+     * The time between two successive ticks in milliseconds, or zero while suspended.
+     */
+    private long periodMillis = DEFAULT_PERIOD_MILLIS;
+
+    private TickListener listener;
+
+    /**
+     * Moves on with each start, stop and period change so that stale ticks are dropped.
+     */
+    private final TickGate gate = new TickGate();
+
+    private final ClockMetrics metrics = new ClockMetrics();
+
+    /**
+     * Creates a clock backed by the process-wide shared scheduler.
+     */
+    public ScheduledClockModel() {
+        this(SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * Creates a clock backed by the given scheduler.
+     *
+     * @param scheduler The scheduler on which the ticks are fired.
+     */
+    public ScheduledClockModel(final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        this.timeouts = new DeadlineTimer(scheduler);
+    }
+
+    @Override
+    public void setTickListener(final TickListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public synchronized void start() {
+        start(0);
+    }
+
+    @Override
+    public synchronized void start(final long elapsedNanos) {
+        if (running) {
+            return;
+        }
+        running = true;
+        schedule(elapsedNanos);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        cancel();
+    }
+
+    @Override
+    public void stopAndAwait() throws InterruptedException {
+        stop();
+        gate.awaitIdle();
+    }
+
+    @Override
+    public void armTimeout(final long delayNanos, final TimeoutListener listener) {
+        timeouts.armTimeout(delayNanos, listener);
+    }
+
+    @Override
+    public void cancelTimeout() {
+        timeouts.cancelTimeout();
+    }
+
+    @Override
+    public synchronized void setTickPeriod(final long millis) {
+        final long period = Math.max(0, millis);
+        if (period == periodMillis) {
+            return;
+        }
+        periodMillis = period;
+        if (running) {
+            cancel();
+            schedule(0);
+        }
+    }
+
+    private void schedule(final long elapsedNanos) {
+        if (periodMillis > 0) {
+            // The clock model runs onTick every period, 1000 milliseconds unless adjusted
+            final long period = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+            final long delay = period - Math.max(0, Math.min(elapsedNanos, period - 1));
+            ticks = scheduler.scheduleAtFixedRate(new Ticks(period, delay, gate.open()),
+                    /*initial delay*/ delay, /*periodic delay*/ period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void cancel() {
+        gate.close();
+        if (ticks != null) {
+            ticks.cancel(false);
+            ticks = null;
+        }
+    }
+
+    @Override
+    public ClockMetrics getMetrics() {
+        return metrics;
+    }
+}
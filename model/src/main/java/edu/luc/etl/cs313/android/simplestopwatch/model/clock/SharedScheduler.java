@@ -0,0 +1,29 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * The single, process-wide scheduler on which the shared clock models fire their ticks.
+ * Starting or stopping a clock only (re)schedules or cancels a task on this scheduler,
+ * so no thread is created or torn down per start/stop cycle.
+ */
+enum SharedScheduler {
+
+    ;
+
+    /**
+     * The shared scheduler backed by one daemon thread.
+     */
+    static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+    private static ScheduledThreadPoolExecutor create() {
+        final var executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final var thread = new Thread(runnable, "stopwatch-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // canceled ticks must not linger in the queue until their delay expires
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
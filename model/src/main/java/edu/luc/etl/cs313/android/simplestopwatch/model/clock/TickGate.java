@@ -0,0 +1,138 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lets a clock drop the ticks of an earlier start without locking on the tick path.
+ * Each start opens a new epoch that the scheduled ticks carry; stopping closes it.
+ * A tick enters the gate before reaching the listener, which counts it as in flight
+ * and then admits it only if its epoch is still open, so once {@link #close()}
+ * has returned no further tick is admitted. A tick admitted before may still be on
+ * its way to the listener; {@link #awaitIdle()} waits for the admitted ones to leave.
+ */
+public final class TickGate {
+
+    /**
+     * The time to park between two checks while waiting for ticks in flight.
+     */
+    private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * The gate whose tick the current thread is delivering, if any. Cleared by setting
+     * null rather than removed, so that delivering a tick does not allocate a map entry.
+     */
+    private static final ThreadLocal<TickGate> DELIVERING = new ThreadLocal<>();
+
+    /**
+     * The open epoch; each open and close moves it on.
+     */
+    private final AtomicInteger epoch = new AtomicInteger();
+
+    /**
+     * The number of ticks that have entered and not yet left.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Opens a new epoch, closing the previous one.
+     *
+     * @return The new epoch, to be passed to {@link #enter(int)} by the ticks scheduled for it.
+     */
+    public int open() {
+        return epoch.incrementAndGet();
+    }
+
+    /**
+     * Closes the open epoch, so that no tick scheduled before is admitted any more.
+     */
+    public void close() {
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * Indicates whether the given epoch is still open.
+     *
+     * @param scheduled The epoch of a tick.
+     * @return True if the tick would be admitted.
+     */
+    public boolean isOpen(final int scheduled) {
+        return epoch.get() == scheduled;
+    }
+
+    /**
+     * Admits a tick of the given epoch if that epoch is still open. An admitted tick
+     * must be followed by {@link #exit()} once the listener has returned.
+     *
+     * @param scheduled The epoch of the tick.
+     * @return True if the tick is admitted, false if it is stale and must be dropped.
+     */
+    public boolean enter(final int scheduled) {
+        // counted before the check, so a closing thread that awaits idleness cannot miss it
+        inFlight.incrementAndGet();
+        if (epoch.get() != scheduled) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        DELIVERING.set(this);
+        return true;
+    }
+
+    /**
+     * Marks an admitted tick as delivered.
+     */
+    public void exit() {
+        DELIVERING.set(null);
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Waits until all admitted ticks have left, other than the one the calling thread is delivering.
+     *
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public void awaitIdle() throws InterruptedException {
+        final int own = DELIVERING.get() == this ? 1 : 0;
+        while (inFlight.get() > own) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.parkNanos(WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Returns a listener that passes ticks on to the given one while the epoch opened by
+     * this call remains open, and drops them afterwards.
+     *
+     * @param listener The listener to deliver the ticks to.
+     * @return The gated listener, to be scheduled in place of the given one.
+     */
+    public TickListener open(final TickListener listener) {
+        final int scheduled = open();
+        return new TickListener() {
+            @Override
+            public void onTick() {
+                if (enter(scheduled)) {
+                    try {
+                        listener.onTick();
+                    } finally {
+                        exit();
+                    }
+                }
+            }
+
+            @Override
+            public void onTicks(final int n) {
+                if (enter(scheduled)) {
+                    try {
+                        listener.onTicks(n);
+                    } finally {
+                        exit();
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+/**
+ * A listener for onTick events coming from the internal clock model.
+ *
+ * @author laufer
+ */
+public interface TickListener {
+    /**
+     * Listener method for the behavior that must be implemented when a tick occurs.
+     * */
+    void onTick();
+
+    /**
+     * Listener method for several ticks that became due at once, for example after the
+     * process was paused. Clocks deliver such a backlog in one call instead of a burst
+     * of late ticks, so listeners can apply it in one step. By default, the ticks are
+     * handled one by one.
+     *
+     * @param n The number of ticks, at least one.
+     */
+    default void onTicks(final int n) {
+        for (var i = 0; i < n; i++) {
+            onTick();
+        }
+    }
+}
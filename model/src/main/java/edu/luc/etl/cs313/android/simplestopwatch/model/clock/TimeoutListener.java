@@ -0,0 +1,11 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+/**
+ * A listener for the one-shot timeouts of a {@link TimeoutService}.
+ */
+public interface TimeoutListener {
+    /**
+     * Listener method for the behavior that must be implemented when an armed timeout expires.
+     */
+    void onTimeout();
+}
@@ -0,0 +1,25 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+/**
+ * A service for one-shot timeouts against a monotonic deadline, so that waiting
+ * for a fixed time costs a single wake-up that happens exactly when the time is up,
+ * instead of counting periodic ticks. At most one timeout is pending at a time,
+ * independently of whether the ticks of a clock providing this service are started.
+ */
+public interface TimeoutService {
+
+    /**
+     * Arms a timeout that notifies the given listener once the given delay has passed
+     * from now. A timeout that is still pending is replaced, so arming again pushes
+     * the deadline back.
+     *
+     * @param delayNanos The delay until the timeout expires in nanoseconds.
+     * @param listener The listener to notify when the timeout expires.
+     */
+    void armTimeout(long delayNanos, TimeoutListener listener);
+
+    /**
+     * Cancels the pending timeout, if any, so that its listener is not notified.
+     */
+    void cancelTimeout();
+}
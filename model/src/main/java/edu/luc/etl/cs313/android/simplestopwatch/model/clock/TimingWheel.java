@@ -0,0 +1,399 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A hashed timing wheel that fires any number of one-shot or periodic tick listeners
+ * from a single driver task on a shared scheduler. Scheduling and canceling are O(1);
+ * they only enqueue a request that the driver applies on its next step, so both are
+ * safe from any thread. Timers due more than one revolution ahead wait in their slot
+ * for the remaining number of rounds. Closing the wheel stops its driver and drops
+ * all pending timers. Listeners are fired without holding the wheel's lock, so that
+ * they may take locks of their own that are also held while calling into the wheel.
+ */
+public class TimingWheel implements Closeable {
+
+    /**
+     * A timer scheduled on this wheel.
+     */
+    public final class Timeout {
+
+        private static final int PENDING = 0, ACTIVE = 1, CANCELED = 2;
+
+        private final TickListener listener;
+
+        private final long period;
+
+        private long deadline;
+
+        private long rounds;
+
+        private Timeout prev, next;
+
+        private Slot slot;
+
+        private final AtomicInteger status = new AtomicInteger(PENDING);
+
+        private Timeout(final TickListener listener, final long deadline, final long period) {
+            this.listener = listener;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /**
+         * Cancels this timer. Its listener is not fired after the wheel's current step.
+         */
+        public void cancel() {
+            if (status.getAndSet(CANCELED) == ACTIVE) {
+                cancellations.offer(this);
+            }
+        }
+
+        /**
+         * Indicates whether this timer has been canceled.
+         *
+         * @return True if this timer has been canceled.
+         */
+        public boolean isCanceled() {
+            return status.get() == CANCELED;
+        }
+    }
+
+    /**
+     * A slot of the wheel, holding a doubly linked list of timers.
+     */
+    private static final class Slot {
+
+        private Timeout head;
+
+        void add(final Timeout timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(final Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+
+    private final long resolution;
+
+    private final Slot[] slots;
+
+    private final int mask;
+
+    private final long origin;
+
+    private final Queue<Timeout> additions = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Timeout> cancellations = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final ClockMetrics metrics = new ClockMetrics();
+
+    /**
+     * The number of wheel steps taken so far; only accessed by the driver.
+     */
+    private long step;
+
+    /**
+     * The timers expired by the current step, to be fired once the lock is released;
+     * only accessed by the driver.
+     */
+    private final List<Timeout> expired = new ArrayList<>();
+
+    /**
+     * The periodic task advancing the wheel, or null if a subclass advances it.
+     */
+    private ScheduledFuture<?> driver;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a wheel with 10 ms resolution and 512 slots, driven by the shared scheduler.
+     */
+    public TimingWheel() {
+        this(SharedScheduler.INSTANCE, 10, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * Creates a wheel driven by the given scheduler.
+     *
+     * @param scheduler The scheduler on which the wheel is advanced.
+     * @param resolution The duration of one wheel step.
+     * @param unit The time unit of the resolution.
+     * @param slotCount The number of slots, rounded up to a power of two.
+     */
+    public TimingWheel(final ScheduledExecutorService scheduler, final long resolution,
+            final TimeUnit unit, final int slotCount) {
+        this(resolution, unit, slotCount);
+        driver = scheduler.scheduleAtFixedRate(this::advance, resolution, resolution, unit);
+    }
+
+    /**
+     * Creates a wheel without a driver, for a subclass that advances it by itself
+     * against its own {@link #now()}.
+     *
+     * @param resolution The duration of one wheel step.
+     * @param unit The time unit of the resolution.
+     * @param slotCount The number of slots, rounded up to a power of two.
+     */
+    protected TimingWheel(final long resolution, final TimeUnit unit, final int slotCount) {
+        if (resolution <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("resolution and slotCount must be positive");
+        }
+        this.resolution = unit.toNanos(resolution);
+        final int length = Integer.highestOneBit(Math.max(1, slotCount - 1)) << 1;
+        slots = new Slot[length];
+        for (var i = 0; i < length; i++) {
+            slots[i] = new Slot();
+        }
+        mask = length - 1;
+        origin = now();
+    }
+
+    /**
+     * Returns the current time of this wheel.
+     *
+     * @return The monotonic time in nanoseconds, {@link System#nanoTime()} unless overridden.
+     */
+    protected long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Schedules the given listener to be fired after the given delay and,
+     * if the period is positive, repeatedly after that.
+     *
+     * @param listener The listener to fire.
+     * @param delay The delay until the first firing.
+     * @param period The time between successive firings, or zero for a single firing.
+     * @param unit The time unit of delay and period.
+     * @return The handle by which the timer can be canceled.
+     */
+    public Timeout schedule(final TickListener listener, final long delay, final long period,
+            final TimeUnit unit) {
+        final var timeout = new Timeout(listener,
+                now() - origin + unit.toNanos(delay), unit.toNanos(period));
+        if (closed) {
+            timeout.status.set(Timeout.CANCELED);
+            return timeout;
+        }
+        size.incrementAndGet();
+        additions.offer(timeout);
+        if (closed) {
+            // closed meanwhile, so the driver will not take up this timer
+            discardAll();
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timers scheduled and not yet expired or canceled.
+     *
+     * @return The number of pending timers.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Stops advancing the wheel and cancels all pending timers, so that no listener
+     * is fired after the step in progress, if any. Timers scheduled afterwards never fire.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (driver != null) {
+            driver.cancel(false);
+        }
+        discardAll();
+    }
+
+    /**
+     * Cancels and unlinks all timers, whether in a slot or waiting to be added.
+     */
+    private synchronized void discardAll() {
+        Timeout timeout;
+        while ((timeout = additions.poll()) != null) {
+            timeout.status.set(Timeout.CANCELED);
+            size.decrementAndGet();
+        }
+        cancellations.clear();
+        for (final Slot slot : slots) {
+            while ((timeout = slot.head) != null) {
+                timeout.status.set(Timeout.CANCELED);
+                slot.remove(timeout);
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the tick timing measurements of all timers on this wheel.
+     * Lateness is measured against each timer's exact deadline, so it includes
+     * the rounding to the wheel's resolution.
+     *
+     * @return The metrics shared by all timers of this wheel.
+     */
+    public ClockMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Advances the wheel to the current time, firing all expired timers.
+     * Runs on the driver only, which is the scheduler thread unless a subclass advances the wheel.
+     * Each step unlinks its expired timers under the lock and fires them after releasing it.
+     */
+    protected void advance() {
+        final long target = (now() - origin) / resolution;
+        // a late driver catches up on all missed steps at once
+        while (takeStep(target)) {
+            for (var i = 0; i < expired.size(); i++) {
+                final var timeout = expired.get(i);
+                // a listener may cancel a timer or close the wheel before the rest are fired
+                rearm(timeout, closed || timeout.isCanceled() ? 0 : fire(timeout));
+            }
+            expired.clear();
+        }
+    }
+
+    /**
+     * Takes the next step if it is due by the given one, collecting the timers it expires.
+     *
+     * @param target The last step that is due.
+     * @return True if a step was taken.
+     */
+    private synchronized boolean takeStep(final long target) {
+        if (step > target || closed) {
+            return false;
+        }
+        applyCancellations();
+        applyAdditions();
+        expire(slots[(int) (step & mask)]);
+        step++;
+        return true;
+    }
+
+    private void applyCancellations() {
+        Timeout timeout;
+        while ((timeout = cancellations.poll()) != null) {
+            if (timeout.slot != null) {
+                timeout.slot.remove(timeout);
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private void applyAdditions() {
+        Timeout timeout;
+        while ((timeout = additions.poll()) != null) {
+            if (timeout.status.compareAndSet(Timeout.PENDING, Timeout.ACTIVE)) {
+                // the current slot is still to be expired in this step
+                insert(timeout, step);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Puts the given timer into the slot of its deadline, counting the revolutions it
+     * has to wait there from the given step, the first one whose slot is still to be expired.
+     */
+    private void insert(final Timeout timeout, final long earliest) {
+        final long due = Math.max(earliest, (timeout.deadline + resolution - 1) / resolution);
+        timeout.rounds = (due - earliest) >> Integer.numberOfTrailingZeros(slots.length);
+        slots[(int) (due & mask)].add(timeout);
+    }
+
+    private void expire(final Slot slot) {
+        var timeout = slot.head;
+        while (timeout != null) {
+            final var next = timeout.next;
+            if (timeout.isCanceled()) {
+                slot.remove(timeout);
+                size.decrementAndGet();
+            } else if (timeout.rounds > 0) {
+                timeout.rounds--;
+            } else {
+                slot.remove(timeout);
+                expired.add(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Fires the given expired timer.
+     *
+     * @param timeout The timer.
+     * @return The number of periods delivered.
+     */
+    private long fire(final Timeout timeout) {
+        final long fired = now();
+        final long lateness = fired - origin - timeout.deadline;
+        // a periodic timer delivers all periods that have passed in one call
+        final long due = timeout.period > 0 ? 1 + Math.max(0, lateness) / timeout.period : 1;
+        try {
+            if (due == 1) {
+                timeout.listener.onTick();
+            } else {
+                timeout.listener.onTicks((int) Math.min(Integer.MAX_VALUE, due));
+            }
+        } catch (final RuntimeException e) {
+            // a failing listener must not stop the wheel for all other timers, so report it instead
+            metrics.recordFailure();
+            final var handler = Thread.getDefaultUncaughtExceptionHandler();
+            if (handler != null) {
+                handler.uncaughtException(Thread.currentThread(), e);
+            }
+        }
+        metrics.recordTick(lateness, now() - fired, timeout.period);
+        return due;
+    }
+
+    /**
+     * Puts a fired periodic timer back for its next deadline, unless it has been canceled
+     * or the wheel closed meanwhile; otherwise the timer is done.
+     *
+     * @param timeout The timer.
+     * @param due The number of periods it delivered, or zero if it was not fired.
+     */
+    private synchronized void rearm(final Timeout timeout, final long due) {
+        if (due > 0 && timeout.period > 0 && !closed && timeout.status.get() == Timeout.ACTIVE) {
+            timeout.deadline += due * timeout.period;
+            // the step has moved on, so this never goes back into a slot already expired
+            insert(timeout, step);
+        } else {
+            size.decrementAndGet();
+        }
+    }
+}
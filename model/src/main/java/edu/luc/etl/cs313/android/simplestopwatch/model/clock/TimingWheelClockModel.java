@@ -0,0 +1,180 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An implementation of the internal clock that registers a periodic timer on a
+ * timing wheel while running, and a one-shot timer for each timeout. Starting, stopping
+ * and arming are O(1) regardless of how many other clocks share the wheel, and no clock
+ * owns a thread.
+ */
+public class TimingWheelClockModel implements InstrumentedClockModel, AdjustableClockModel, AwaitableClockModel, TimeoutService {
+
+    /**
+     * The initial time between two successive ticks in milliseconds.
+     */
+    private static final long DEFAULT_PERIOD_MILLIS = 1000;
+
+    /**
+     * Holds the wheel shared by all clocks created without an explicit wheel,
+     * so it is only created, and its driver only scheduled, on first use.
+     */
+    private static final class DefaultWheel {
+        static final TimingWheel INSTANCE = new TimingWheel();
+    }
+
+    private final TimingWheel wheel;
+
+
+    private TickListener listener;
+
+    /**
+     * Moves on with each start, stop and period change so that stale ticks are dropped.
+     */
+    private final TickGate gate = new TickGate();
+
+    /**
+     * The timer on the wheel, or null when the clock is stopped or suspended.
+     */
+    private TimingWheel.Timeout ticks;
+
+    /**
+     * A one-shot timer on the wheel that notifies its listener unless it has been replaced.
+     */
+    private final class Expiry implements TickListener {
+
+        private final TimeoutListener listener;
+
+        private TimingWheel.Timeout handle;
+
+        Expiry(final TimeoutListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void onTick() {
+            synchronized (TimingWheelClockModel.this) {
+                if (timeout != this) {
+                    return;
+                }
+                timeout = null;
+            }
+            listener.onTimeout();
+        }
+    }
+
+    /**
+     * The pending timeout, or null when none is pending.
+     */
+    private Expiry timeout;
+
+    private boolean running;
+
+    /**
+     * The time between two successive ticks in milliseconds, or zero while suspended.
+     */
+    private long periodMillis = DEFAULT_PERIOD_MILLIS;
+
+    /**
+     * Creates a clock on the process-wide default timing wheel.
+     */
+    public TimingWheelClockModel() {
+        this(DefaultWheel.INSTANCE);
+    }
+
+    /**
+     * Creates a clock on the given timing wheel.
+     *
+     * @param wheel The timing wheel on which the ticks are scheduled.
+     */
+    public TimingWheelClockModel(final TimingWheel wheel) {
+        this.wheel = wheel;
+    }
+
+    @Override
+    public void setTickListener(final TickListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public synchronized void start() {
+        start(0);
+    }
+
+    @Override
+    public synchronized void start(final long elapsedNanos) {
+        if (running) {
+            return;
+        }
+        running = true;
+        schedule(elapsedNanos);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        cancel();
+    }
+
+    @Override
+    public void stopAndAwait() throws InterruptedException {
+        stop();
+        gate.awaitIdle();
+    }
+
+    /**
+     * Arms a one-shot timer on the wheel, so the deadline is rounded up to the wheel's resolution.
+     */
+    @Override
+    public synchronized void armTimeout(final long delayNanos, final TimeoutListener listener) {
+        cancelTimeout();
+        final var expiry = new Expiry(listener);
+        expiry.handle = wheel.schedule(expiry, Math.max(0, delayNanos), 0, TimeUnit.NANOSECONDS);
+        timeout = expiry;
+    }
+
+    @Override
+    public synchronized void cancelTimeout() {
+        if (timeout != null) {
+            timeout.handle.cancel();
+            timeout = null;
+        }
+    }
+
+    @Override
+    public synchronized void setTickPeriod(final long millis) {
+        final long period = Math.max(0, millis);
+        if (period == periodMillis) {
+            return;
+        }
+        periodMillis = period;
+        if (running) {
+            cancel();
+            schedule(0);
+        }
+    }
+
+    private void schedule(final long elapsedNanos) {
+        if (periodMillis > 0) {
+            final long period = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+            final long delay = period - Math.max(0, Math.min(elapsedNanos, period - 1));
+            ticks = wheel.schedule(gate.open(listener), delay, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void cancel() {
+        gate.close();
+        if (ticks != null) {
+            ticks.cancel();
+            ticks = null;
+        }
+    }
+
+    /**
+     * Returns the metrics of the timing wheel, which aggregate the ticks of all clocks on it.
+     */
+    @Override
+    public ClockMetrics getMetrics() {
+        return wheel.getMetrics();
+    }
+}
@@ -0,0 +1,145 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.clock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An implementation of the internal clock driven by virtual instead of real time.
+ * Time only passes when {@link #advance(long)} is invoked, which fires all ticks
+ * falling into the advanced interval on the calling thread, in order and without delay.
+ * Timeouts expire on the same virtual time line, interleaved with the ticks.
+ * This makes tick-driven behavior deterministic and lets tests run at CPU speed.
+ * Like the monotonic clock, it carries partial seconds across stop and start.
+ */
+public class VirtualClockModel implements AdjustableClockModel, TimeoutService {
+
+    /**
+     * The initial time between two successive ticks in nanoseconds.
+     */
+    private static final long DEFAULT_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The time between two successive ticks in nanoseconds, or zero while suspended.
+     */
+    private long period = DEFAULT_PERIOD_NANOS;
+
+    private TickListener listener;
+
+    private boolean running;
+
+    /**
+     * The current virtual time.
+     */
+    private long now;
+
+    /**
+     * The virtual time at which the next tick is due.
+     */
+    private long deadline;
+
+    /**
+     * The part of the current period that had elapsed when the clock was last stopped.
+     */
+    private long partial;
+
+    /**
+     * The listener of the pending timeout, or null when none is pending.
+     */
+    private TimeoutListener timeout;
+
+    /**
+     * The virtual time at which the pending timeout expires.
+     */
+    private long timeoutDeadline;
+
+    @Override
+    public void setTickListener(final TickListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        deadline = now + period - Math.min(partial, Math.max(0, period - 1));
+    }
+
+    @Override
+    public void start(final long elapsedNanos) {
+        if (running) {
+            return;
+        }
+        partial = Math.max(0, elapsedNanos);
+        start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (period > 0) {
+            partial = period - (deadline - now);
+        }
+    }
+
+    @Override
+    public void setTickPeriod(final long millis) {
+        final long nanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+        if (nanos == period) {
+            return;
+        }
+        period = nanos;
+        partial = 0;
+        deadline = now + period;
+    }
+
+    @Override
+    public void armTimeout(final long delayNanos, final TimeoutListener listener) {
+        timeout = listener;
+        timeoutDeadline = now + Math.max(0, delayNanos);
+    }
+
+    @Override
+    public void cancelTimeout() {
+        timeout = null;
+    }
+
+    /**
+     * Advances virtual time by the given amount, firing each tick and timeout that becomes due.
+     *
+     * @param millis The amount of virtual time to advance in milliseconds.
+     */
+    public void advance(final long millis) {
+        final long target = now + TimeUnit.MILLISECONDS.toNanos(millis);
+        // the listeners may stop or restart the clock, so check again after each tick or timeout
+        while (true) {
+            final boolean ticking = running && period > 0 && deadline <= target;
+            final boolean expiring = timeout != null && timeoutDeadline <= target;
+            if (expiring && (!ticking || timeoutDeadline <= deadline)) {
+                final var expired = timeout;
+                timeout = null;
+                now = timeoutDeadline;
+                expired.onTimeout();
+            } else if (ticking) {
+                now = deadline;
+                deadline += period;
+                listener.onTick();
+            } else {
+                break;
+            }
+        }
+        now = target;
+    }
+
+    /**
+     * Returns the current virtual time.
+     *
+     * @return The virtual time elapsed since this clock was created in milliseconds.
+     */
+    public long getTime() {
+        return TimeUnit.NANOSECONDS.toMillis(now);
+    }
+}
@@ -0,0 +1,299 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.journal;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.EventJournal;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.StopwatchStateMachine;
+
+/**
+ * An append-only journal of state machine events in a memory-mapped file.
+ * Each record carries the resulting state and runtime, so recovery reads only the
+ * snapshot in the header and the last record, however long the journal has grown.
+ * When the record area is full, the latest record is compacted into the header
+ * snapshot and appending starts over. Writes go to the mapped pages, which survive
+ * the death of the process; forcing them to the storage device happens in batches
+ * on a background thread, so recording an event never waits for disk I/O.
+ *
+ * <pre>
+ * header:  magic, version, record count, snapshot state, snapshot runtime, snapshot wall time
+ * record:  event, state, runtime, wall time, checksum
+ * </pre>
+ */
+public class MappedEventJournal implements EventJournal, Closeable {
+
+    /**
+     * The default number of records between two snapshots.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The default time between two forces of the journal to storage in milliseconds.
+     */
+    public static final long DEFAULT_FLUSH_MILLIS = 1000;
+
+    /**
+     * The time the incrementing state waits for another button press in milliseconds.
+     */
+    private static final long WAIT_MILLIS = Constants.TICK_WAIT * Constants.TICK_PERIOD_MILLIS;
+
+    private static final int MAGIC = 0x53574a31;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+
+    private static final int RECORD_SIZE = 24;
+
+    // header offsets
+    private static final int COUNT = 8, SNAPSHOT_STATE = 12, SNAPSHOT_RUNTIME = 16, SNAPSHOT_WALL = 20;
+
+    // record offsets
+    private static final int EVENT = 0, STATE = 4, RUNTIME = 8, WALL = 12, CHECKSUM = 20;
+
+    /**
+     * Holds the background thread on which all journals are forced to storage,
+     * created only when the first journal is opened.
+     */
+    private static final class Flusher {
+        static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            final var executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final var thread = new Thread(runnable, "stopwatch-journal");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    private final RandomAccessFile file;
+
+    private final MappedByteBuffer buffer;
+
+    private final int capacity;
+
+    private final ScheduledFuture<?> flushing;
+
+    /**
+     * The number of records after the snapshot; only accessed by the recording thread.
+     */
+    private int count;
+
+    /**
+     * Whether records were written since the journal was last forced to storage.
+     */
+    private volatile boolean dirty;
+
+    // the latest journaled state, either recovered or recorded; lastWall is written last
+    private int lastState;
+    private int lastRuntime;
+    private volatile long lastWall;
+
+    /**
+     * Opens or creates a journal with the default capacity and flush interval.
+     *
+     * @param path The journal file.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public MappedEventJournal(final File path) throws IOException {
+        this(path, DEFAULT_CAPACITY, Flusher.INSTANCE, DEFAULT_FLUSH_MILLIS);
+    }
+
+    /**
+     * Opens or creates a journal.
+     *
+     * @param path The journal file.
+     * @param capacity The number of records between two snapshots.
+     * @param flusher The scheduler on which the journal is forced to storage.
+     * @param flushMillis The time between two forces in milliseconds.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public MappedEventJournal(final File path, final int capacity, final ScheduledExecutorService flusher,
+            final long flushMillis) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        file = new RandomAccessFile(path, "rw");
+        final long size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+        final boolean fresh = file.length() < HEADER_SIZE;
+        try {
+            buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, file.length()));
+        } catch (final IOException e) {
+            file.close();
+            throw e;
+        }
+        if (!fresh && buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION) {
+            // the snapshot, unless a valid record follows it
+            int state = buffer.getInt(SNAPSHOT_STATE);
+            int runtime = buffer.getInt(SNAPSHOT_RUNTIME);
+            long wall = buffer.getLong(SNAPSHOT_WALL);
+            final int limit = (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+            // a torn last record falls back to the one before it
+            for (var i = Math.min(buffer.getInt(COUNT), limit) - 1; i >= 0; i--) {
+                final int offset = HEADER_SIZE + i * RECORD_SIZE;
+                if (checksum(offset) == buffer.getInt(offset + CHECKSUM)) {
+                    state = buffer.getInt(offset + STATE);
+                    runtime = buffer.getInt(offset + RUNTIME);
+                    wall = buffer.getLong(offset + WALL);
+                    break;
+                }
+            }
+            lastState = state;
+            lastRuntime = runtime;
+            lastWall = wall;
+            snapshot(state, runtime, wall);
+        } else {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            snapshot(STATE_STOPPED, 0, 0);
+        }
+        flushing = flusher.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Indicates whether the journal holds a state, either found when it was opened or recorded since.
+     *
+     * @return True if there is a state to restore.
+     */
+    public boolean hasState() {
+        return lastWall != 0;
+    }
+
+    /**
+     * Returns the code of the latest journaled state.
+     *
+     * @return The state code.
+     */
+    public int getState() {
+        return lastWall != 0 ? lastState : STATE_STOPPED;
+    }
+
+    /**
+     * Returns the latest journaled runtime.
+     *
+     * @return The runtime.
+     */
+    public int getRuntime() {
+        return lastWall != 0 ? lastRuntime : 0;
+    }
+
+    /**
+     * Returns the wall-clock time of the latest journaled event.
+     *
+     * @return The time in milliseconds since the epoch, or zero if the journal is empty.
+     */
+    public long getWallTime() {
+        return lastWall;
+    }
+
+    /**
+     * Puts the given state machine into the latest journaled state, accounting for the time
+     * that passed since the last recorded event while the stopwatch was waiting or counting.
+     * A wait in the incrementing state goes on for what remains of it, and the part of a
+     * second that passed since the last tick carries over to the next one.
+     *
+     * @param machine The state machine to restore.
+     * @param now The current wall-clock time in milliseconds since the epoch.
+     */
+    public void restoreInto(final StopwatchStateMachine machine, final long now) {
+        var state = lastState;
+        var runtime = lastRuntime;
+        var elapsed = Math.max(0, now - lastWall);
+        if (state == STATE_INCREMENTING && elapsed >= WAIT_MILLIS) {
+            state = STATE_RUNNING;
+            elapsed -= WAIT_MILLIS;
+        }
+        if (state == STATE_RUNNING) {
+            final long ticks = elapsed / Constants.TICK_PERIOD_MILLIS;
+            elapsed %= Constants.TICK_PERIOD_MILLIS;
+            if (ticks >= runtime) {
+                state = STATE_ALARMING;
+                runtime = 0;
+            } else {
+                runtime -= (int) ticks;
+            }
+        }
+        if (state != STATE_RUNNING && state != STATE_INCREMENTING) {
+            elapsed = 0;
+        }
+        machine.restore(state, runtime, TimeUnit.MILLISECONDS.toNanos(elapsed));
+    }
+
+    @Override
+    public void record(final int event, final int state, final int runtime) {
+        final long wall = System.currentTimeMillis();
+        if (count == capacity) {
+            // the snapshot equals the last record, so a crash before the count is reset loses nothing
+            final int last = HEADER_SIZE + (count - 1) * RECORD_SIZE;
+            snapshot(buffer.getInt(last + STATE), buffer.getInt(last + RUNTIME), buffer.getLong(last + WALL));
+        }
+        final int offset = HEADER_SIZE + count * RECORD_SIZE;
+        buffer.putInt(offset + EVENT, event);
+        buffer.putInt(offset + STATE, state);
+        buffer.putInt(offset + RUNTIME, runtime);
+        buffer.putLong(offset + WALL, wall);
+        buffer.putInt(offset + CHECKSUM, checksum(offset));
+        // the record is complete before it is counted
+        buffer.putInt(COUNT, ++count);
+        dirty = true;
+        lastState = state;
+        lastRuntime = runtime;
+        lastWall = wall;
+    }
+
+    /**
+     * Forces the journal to storage if anything was recorded since the last force.
+     */
+    public void flush() {
+        if (dirty) {
+            dirty = false;
+            buffer.force();
+        }
+    }
+
+    /**
+     * Stops the periodic forcing, forces any remaining records and closes the file.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        flushing.cancel(false);
+        flush();
+        file.close();
+    }
+
+    /**
+     * Replaces the snapshot in the header and discards all records.
+     */
+    private void snapshot(final int state, final int runtime, final long wall) {
+        buffer.putInt(SNAPSHOT_STATE, state);
+        buffer.putInt(SNAPSHOT_RUNTIME, runtime);
+        buffer.putLong(SNAPSHOT_WALL, wall);
+        count = 0;
+        buffer.putInt(COUNT, 0);
+    }
+
+    private int checksum(final int offset) {
+        final long wall = buffer.getLong(offset + WALL);
+        int hash = MAGIC;
+        hash = 31 * hash + buffer.getInt(offset + EVENT);
+        hash = 31 * hash + buffer.getInt(offset + STATE);
+        hash = 31 * hash + buffer.getInt(offset + RUNTIME);
+        hash = 31 * hash + (int) (wall ^ (wall >>> 32));
+        return hash;
+    }
+}
@@ -0,0 +1,178 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.replay;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.StopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.StopwatchStateMachineFactory;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+
+/**
+ * Feeds logs written by {@link EventLogWriter} through a fresh state machine per session,
+ * on the calling thread and as fast as the machine handles the events. The machine runs
+ * on a clock that follows the time line of the log, so pending timeouts expire between
+ * the events as they did when the session was recorded, and nothing waits for real time.
+ * Replaying the same log through two implementations yields the same result
+ * exactly when they behave the same.
+ */
+public class EventLogReplayer {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final StopwatchStateMachineFactory factory;
+
+    /**
+     * Creates a replayer whose sessions run on state machines from the given factory.
+     *
+     * @param factory The factory for the state machines.
+     */
+    public EventLogReplayer(final StopwatchStateMachineFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Replays the given log.
+     *
+     * @param log The encoded log.
+     * @return The outcome of the session.
+     * @throws IllegalArgumentException If the log is malformed.
+     */
+    public ReplayResult replay(final byte[] log) {
+        return replay(log, 0, log.length);
+    }
+
+    /**
+     * Replays the log at the given position, for example one of many sessions stored back to back.
+     *
+     * @param log The bytes holding the encoded log.
+     * @param offset The position of the log.
+     * @param length The length of the log.
+     * @return The outcome of the session.
+     * @throws IllegalArgumentException If the log is malformed.
+     */
+    public ReplayResult replay(final byte[] log, final int offset, final int length) {
+        final var reader = new Reader(log, offset, length);
+        if (reader.readInt() != EventLogWriter.MAGIC) {
+            throw new IllegalArgumentException("not an event log");
+        }
+        final var clock = new ReplayClock();
+        final var session = new Session();
+        final StopwatchStateMachine machine = factory.create(new DefaultTimeModel(), clock);
+        clock.setTickListener(machine);
+        machine.setModelListener(session);
+        machine.actionInit();
+
+        long checksum = FNV_OFFSET;
+        var events = 0;
+        var dropped = 0;
+        long now = 0;
+        while (reader.hasMore()) {
+            final long key = reader.readVarint();
+            now += key >>> 2;
+            while (clock.expire(now)) {
+                checksum = fold(fold(checksum, session.state), machine.getRuntime());
+            }
+            switch ((int) key & 3) {
+                case EventLogWriter.KIND_BUTTON:
+                    machine.onButton();
+                    break;
+                case EventLogWriter.KIND_TICK:
+                    if (!clock.tick(1)) {
+                        dropped++;
+                    }
+                    break;
+                case EventLogWriter.KIND_TICKS:
+                    final long n = reader.readVarint();
+                    if (n <= 0 || n > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("bad tick count " + n);
+                    }
+                    if (!clock.tick((int) n)) {
+                        dropped++;
+                    }
+                    break;
+                default:
+                    final int zigzag = (int) reader.readVarint();
+                    session.entered = (zigzag >>> 1) ^ -(zigzag & 1);
+                    break;
+            }
+            events++;
+            checksum = fold(fold(checksum, session.state), machine.getRuntime());
+        }
+        return new ReplayResult(events, dropped, session.alarms, session.state, machine.getRuntime(), checksum);
+    }
+
+    private static long fold(final long checksum, final int value) {
+        return (checksum ^ value) * FNV_PRIME;
+    }
+
+    /**
+     * The listener of a replayed session, which stands in for the UI.
+     */
+    private static final class Session implements StopwatchModelListener {
+
+        int state = Constants.STATE_STOPPED;
+
+        int entered = Constants.UI_DEFAULT;
+
+        int alarms;
+
+        @Override public void onTimeUpdate(final int timeValue) { }
+
+        @Override public void onStateUpdate(final int stateId) { state = stateId; }
+
+        @Override public void soundAlarm(final int notification_sound) { alarms++; }
+
+        @Override public int getUserRuntime() { return entered; }
+    }
+
+    /**
+     * Decodes the fields of a log, rejecting reads past its end.
+     */
+    private static final class Reader {
+
+        private final byte[] bytes;
+
+        private final int end;
+
+        private int position;
+
+        Reader(final byte[] bytes, final int offset, final int length) {
+            if (offset < 0 || length < 0 || offset + length > bytes.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            this.bytes = bytes;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        boolean hasMore() {
+            return position < end;
+        }
+
+        int readInt() {
+            if (end - position < 4) {
+                throw new IllegalArgumentException("truncated log");
+            }
+            final int value = (bytes[position] & 0xff) << 24 | (bytes[position + 1] & 0xff) << 16
+                    | (bytes[position + 2] & 0xff) << 8 | bytes[position + 3] & 0xff;
+            position += 4;
+            return value;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (var shift = 0; shift < 64; shift += 7) {
+                if (position == end) {
+                    throw new IllegalArgumentException("truncated log");
+                }
+                final byte b = bytes[position++];
+                value |= (long) (b & 0x7f) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+    }
+}
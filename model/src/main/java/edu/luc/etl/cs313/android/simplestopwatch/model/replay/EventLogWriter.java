@@ -0,0 +1,142 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.replay;
+
+import java.util.Arrays;
+
+/**
+ * Builds a compact binary log of the events of one stopwatch session, to be fed
+ * back through a state machine by {@link EventLogReplayer}. Each event is stored with
+ * the milliseconds since the previous one, so a typical event takes one or two bytes.
+ * Timestamps must not decrease.
+ *
+ * <pre>
+ * log:     magic, event*
+ * event:   varint(delta millis &lt;&lt; 2 | kind), [varint(ticks) | zigzag varint(entered time)]
+ * </pre>
+ */
+public class EventLogWriter {
+
+    static final int MAGIC = 0x53574c31;
+
+    // the event kinds
+    static final int KIND_BUTTON = 0;
+    static final int KIND_TICK = 1;
+    static final int KIND_TICKS = 2;
+    static final int KIND_ENTER_TIME = 3;
+
+    private byte[] bytes = new byte[64];
+
+    private int size;
+
+    private long last;
+
+    private int events;
+
+    /**
+     * Creates a writer for an empty log.
+     */
+    public EventLogWriter() {
+        writeInt(MAGIC);
+    }
+
+    /**
+     * Appends a press of the button.
+     *
+     * @param millis The time of the event in milliseconds.
+     * @return This writer.
+     */
+    public EventLogWriter button(final long millis) {
+        writeEvent(millis, KIND_BUTTON);
+        return this;
+    }
+
+    /**
+     * Appends a tick of the clock.
+     *
+     * @param millis The time of the event in milliseconds.
+     * @return This writer.
+     */
+    public EventLogWriter tick(final long millis) {
+        writeEvent(millis, KIND_TICK);
+        return this;
+    }
+
+    /**
+     * Appends several ticks the clock delivered at once.
+     *
+     * @param millis The time of the event in milliseconds.
+     * @param n The number of ticks, at least one.
+     * @return This writer.
+     */
+    public EventLogWriter ticks(final long millis, final int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("ticks must be positive");
+        }
+        writeEvent(millis, KIND_TICKS);
+        writeVarint(n);
+        return this;
+    }
+
+    /**
+     * Appends a change of the time the user entered, which the state machine
+     * reads the next time it asks for it.
+     *
+     * @param millis The time of the event in milliseconds.
+     * @param time The entered time, or {@link edu.luc.etl.cs313.android.simplestopwatch.common.Constants#UI_DEFAULT} if none.
+     * @return This writer.
+     */
+    public EventLogWriter enterTime(final long millis, final int time) {
+        writeEvent(millis, KIND_ENTER_TIME);
+        writeVarint(((time << 1) ^ (time >> 31)) & 0xffffffffL);
+        return this;
+    }
+
+    /**
+     * Returns the number of events appended so far.
+     *
+     * @return The number of events.
+     */
+    public int getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the log built so far.
+     *
+     * @return A copy of the encoded log.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void writeEvent(final long millis, final int kind) {
+        if (millis < last) {
+            throw new IllegalArgumentException("timestamps must not decrease");
+        }
+        writeVarint((millis - last) << 2 | kind);
+        last = millis;
+        events++;
+    }
+
+    private void writeInt(final int value) {
+        ensure(4);
+        bytes[size++] = (byte) (value >>> 24);
+        bytes[size++] = (byte) (value >>> 16);
+        bytes[size++] = (byte) (value >>> 8);
+        bytes[size++] = (byte) value;
+    }
+
+    private void writeVarint(long value) {
+        ensure(10);
+        while ((value & ~0x7fL) != 0) {
+            bytes[size++] = (byte) (value & 0x7f | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    private void ensure(final int n) {
+        if (size + n > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + n));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.replay;
+
+import java.util.concurrent.TimeUnit;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TickListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimeoutListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimeoutService;
+
+/**
+ * The clock of a replayed session, which emits no ticks of its own. The ticks come
+ * from the log and reach the listener only while the clock is started, as they would
+ * from a real clock; timeouts expire on the time line of the log.
+ */
+final class ReplayClock implements ClockModel, TimeoutService {
+
+    private TickListener listener;
+
+    private boolean running;
+
+    /**
+     * The time of the current event in milliseconds.
+     */
+    private long now;
+
+    /**
+     * The listener of the pending timeout, or null when none is pending.
+     */
+    private TimeoutListener timeout;
+
+    /**
+     * The time at which the pending timeout expires in milliseconds.
+     */
+    private long timeoutDeadline;
+
+    @Override
+    public void setTickListener(final TickListener listener) {
+        this.listener = listener;
+    }
+
+    @Override public void start() { running = true; }
+
+    @Override public void stop() { running = false; }
+
+    @Override
+    public void armTimeout(final long delayNanos, final TimeoutListener listener) {
+        timeout = listener;
+        timeoutDeadline = now + TimeUnit.NANOSECONDS.toMillis(Math.max(0, delayNanos));
+    }
+
+    @Override
+    public void cancelTimeout() {
+        timeout = null;
+    }
+
+    /**
+     * Expires the pending timeout if it is due by the given time.
+     *
+     * @param millis The time of the next event in milliseconds.
+     * @return True if a timeout expired, in which case there may be another one due.
+     */
+    boolean expire(final long millis) {
+        if (timeout == null || timeoutDeadline > millis) {
+            now = millis;
+            return false;
+        }
+        final var expired = timeout;
+        timeout = null;
+        now = timeoutDeadline;
+        expired.onTimeout();
+        return true;
+    }
+
+    /**
+     * Delivers the given number of ticks unless the clock is stopped.
+     *
+     * @param n The number of ticks, at least one.
+     * @return True if the ticks were delivered.
+     */
+    boolean tick(final int n) {
+        if (!running) {
+            return false;
+        }
+        if (n == 1) {
+            listener.onTick();
+        } else {
+            listener.onTicks(n);
+        }
+        return true;
+    }
+}
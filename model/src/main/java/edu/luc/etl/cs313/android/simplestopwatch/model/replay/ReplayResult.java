@@ -0,0 +1,96 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.replay;
+
+/**
+ * The outcome of replaying the log of one session: the final state and runtime,
+ * and a checksum over the state and runtime after every event, so that two runs
+ * agree on the checksum only if they agree at each step.
+ */
+public final class ReplayResult {
+
+    private final int events;
+
+    private final int droppedTicks;
+
+    private final int alarms;
+
+    private final int state;
+
+    private final int runtime;
+
+    private final long checksum;
+
+    ReplayResult(final int events, final int droppedTicks, final int alarms,
+            final int state, final int runtime, final long checksum) {
+        this.events = events;
+        this.droppedTicks = droppedTicks;
+        this.alarms = alarms;
+        this.state = state;
+        this.runtime = runtime;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the number of events read from the log.
+     *
+     * @return The number of events.
+     */
+    public int getEvents() { return events; }
+
+    /**
+     * Returns the number of tick events that arrived while the clock was stopped
+     * and were therefore not delivered.
+     *
+     * @return The number of dropped tick events.
+     */
+    public int getDroppedTicks() { return droppedTicks; }
+
+    /**
+     * Returns the number of times the alarm sounded.
+     *
+     * @return The number of alarms.
+     */
+    public int getAlarms() { return alarms; }
+
+    /**
+     * Returns the id of the final state, one of the state ids in
+     * {@link edu.luc.etl.cs313.android.simplestopwatch.common.Constants}.
+     *
+     * @return The state id.
+     */
+    public int getState() { return state; }
+
+    /**
+     * Returns the final runtime.
+     *
+     * @return The runtime.
+     */
+    public int getRuntime() { return runtime; }
+
+    /**
+     * Returns the checksum over the state and runtime after every event.
+     *
+     * @return The checksum.
+     */
+    public long getChecksum() { return checksum; }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (!(other instanceof ReplayResult)) {
+            return false;
+        }
+        final var that = (ReplayResult) other;
+        return events == that.events && droppedTicks == that.droppedTicks && alarms == that.alarms
+                && state == that.state && runtime == that.runtime && checksum == that.checksum;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (checksum ^ (checksum >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayResult[events=" + events + ", droppedTicks=" + droppedTicks + ", alarms=" + alarms
+                + ", state=" + state + ", runtime=" + runtime + ", checksum=" + Long.toHexString(checksum) + "]";
+    }
+}
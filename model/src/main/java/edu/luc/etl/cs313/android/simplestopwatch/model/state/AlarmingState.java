@@ -1,6 +1,6 @@
 package edu.luc.etl.cs313.android.simplestopwatch.model.state;
 
-import edu.luc.etl.cs313.android.simplestopwatch.R;
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
 
 /**
  * Class definition for the AlarmingState class (state design pattern)
@@ -43,11 +43,31 @@ class AlarmingState implements StopwatchState {
         sm.toAlarmingState();
     }
 
+    /**
+     * Several ticks sound the alarm only once.
+     */
+    @Override
+    public void onTicks(final int n) {
+        onTick();
+    }
+
+    /**
+     * Implementation of onTimeout() from the TimeoutListener interface for AlarmingState.
+     * Timeouts are only armed in Incrementing state, so there is nothing to do.
+     */
+    @Override
+    public void onTimeout() { }
+
     @Override
     public void updateView() { sm.updateUIRuntime(); }
 
     @Override
     public int getId() {
-        return R.string.ALARMING;
+        return Constants.STATE_ALARMING;
+    }
+
+    @Override
+    public long getTickPeriod() {
+        return Constants.ALARM_PERIOD_MILLIS;
     }
 }
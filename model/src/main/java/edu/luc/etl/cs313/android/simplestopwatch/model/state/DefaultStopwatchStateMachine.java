@@ -0,0 +1,515 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.state;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.AdjustableClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimeoutService;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.TimeModel;
+
+import static edu.luc.etl.cs313.android.simplestopwatch.model.state.TransitionTrace.*;
+
+/**
+ * An implementation of the state machine for the stopwatch.
+ *
+ * @author laufer
+ */
+public class DefaultStopwatchStateMachine implements StopwatchStateMachine {
+
+    /**
+     * Constructor method for the state machine. Requires the passive time model and active clock model.
+     *
+     * @param timeModel The passive time model.
+     * @param clockModel The active clock model.
+     * */
+    public DefaultStopwatchStateMachine(final TimeModel timeModel, final ClockModel clockModel) {
+        this(timeModel, clockModel, SideEffectExecutor.DIRECT);
+    }
+
+    /**
+     * Constructor method for the state machine whose side effects run on the given executor.
+     * View updates and alarms are handed to the executor in order, with their values
+     * captured at the transition, so listeners no longer run on the dispatching thread.
+     *
+     * @param timeModel The passive time model.
+     * @param clockModel The active clock model.
+     * @param effects The executor for the side effects towards the listener.
+     * */
+    public DefaultStopwatchStateMachine(final TimeModel timeModel, final ClockModel clockModel, final Executor effects) {
+        this.timeModel = timeModel;
+        this.clockModel = clockModel;
+        this.timeouts = clockModel instanceof TimeoutService ? (TimeoutService) clockModel : null;
+        this.effects = effects;
+    }
+
+    /**
+     * The passive model for time to be used by the state machine.
+     * */
+    private final TimeModel timeModel;
+
+    /**
+     * The active model for the clock to be used by the state machine.
+     * */
+    private final ClockModel clockModel;
+
+    /**
+     * The timeouts provided by the clock model, or null if it provides none.
+     * */
+    private final TimeoutService timeouts;
+
+    /**
+     * The time Incrementing state waits for another button press.
+     */
+    private static final long TIMEOUT_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Constants.TICK_WAIT * Constants.TICK_PERIOD_MILLIS);
+
+    /**
+     * The time between two ticks while counting.
+     */
+    private static final long TICK_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(Constants.TICK_PERIOD_MILLIS);
+
+    /**
+     * Incremented on each arm and cancel, so that a timeout that expired just before
+     * being re-armed or canceled is ignored when its event is dispatched.
+     */
+    private int timeoutGeneration;
+
+    /**
+     * The executor for the side effects towards the listener.
+     * */
+    private final Executor effects;
+
+    /**
+     * The internal state of this adapter component. Required for the State pattern.
+     */
+    private StopwatchState state;
+
+    /**
+     * The recent transitions and actions of this state machine, or null if they are not traced.
+     */
+    private TransitionTrace trace;
+
+    /**
+     * The event currently being dispatched, recorded in the trace as the trigger.
+     */
+    private int trigger = EVENT_NONE;
+
+    /**
+     * The time at which the current event started being dispatched,
+     * shared by all its records so that the clock is read only once per event.
+     */
+    private long triggerNanos;
+
+    /**
+     * Whether the clock is started. A tick that was already on its way when the clock
+     * was stopped is dropped instead of reaching a state that does not expect ticks.
+     */
+    private boolean started;
+
+    /**
+     * The number of tick events dropped because the clock was stopped.
+     */
+    private volatile long droppedTicks;
+
+    /**
+     * The number of state updates sent to the listener.
+     */
+    private volatile long emittedStateUpdates;
+
+    /**
+     * The number of self-transitions for which no state update was sent.
+     */
+    private volatile long suppressedStateUpdates;
+
+    /**
+     * Sets the current state of the state machine.
+     * The listener is only notified when the state actually changes.
+     *
+     * @param state The state to set for the state machine.
+     * */
+    protected void setState(final StopwatchState state) {
+        if (state == this.state) {
+            suppressedStateUpdates++;
+            return;
+        }
+        final var previous = this.state;
+        this.state = state;
+        if (clockModel instanceof AdjustableClockModel) {
+            // wake up only as often as the new state needs
+            ((AdjustableClockModel) clockModel).setTickPeriod(state.getTickPeriod());
+        }
+        final var trace = this.trace;
+        if (trace != null) {
+            trace.record(traceTime(), trigger, KIND_TRANSITION, previous == null ? -1 : previous.getId(), state.getId(),
+                    timeModel.getRuntime());
+        }
+        emittedStateUpdates++;
+        final var listener = this.listener;
+        final var id = state.getId();
+        if (effects == SideEffectExecutor.DIRECT) {
+            listener.onStateUpdate(id);
+        } else {
+            effects.execute(() -> listener.onStateUpdate(id));
+        }
+    }
+
+    /**
+     * Returns the number of state updates sent to the listener.
+     *
+     * @return The number of emitted state updates.
+     */
+    public long getEmittedStateUpdates() {
+        return emittedStateUpdates;
+    }
+
+    /**
+     * Returns the number of self-transitions for which no state update was sent.
+     *
+     * @return The number of suppressed state updates.
+     */
+    public long getSuppressedStateUpdates() {
+        return suppressedStateUpdates;
+    }
+
+    @Override
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    @Override
+    public void setTrace(final TransitionTrace trace) {
+        this.trace = trace;
+    }
+
+    @Override
+    public TransitionTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Records the given action in the trace, in the current state.
+     *
+     * @param kind The kind of action.
+     */
+    private void trace(final int kind) {
+        final var trace = this.trace;
+        if (trace == null) {
+            return;
+        }
+        final int id = state == null ? -1 : state.getId();
+        trace.record(traceTime(), trigger, kind, id, id, timeModel.getRuntime());
+    }
+
+    /**
+     * Starts dispatching the given event, reading the clock only if the event is traced.
+     *
+     * @param event The event, as defined in {@link EventJournal}.
+     */
+    private void begin(final int event) {
+        trigger = event;
+        if (trace != null) {
+            triggerNanos = System.nanoTime();
+        }
+    }
+
+    private long traceTime() {
+        return trigger == EVENT_NONE ? System.nanoTime() : triggerNanos;
+    }
+
+    /**
+     * The journal to which each handled event is reported.
+     */
+    private EventJournal journal = EventJournal.NONE;
+
+    @Override
+    public void setJournal(final EventJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Returns the stable code of the current state for the journal, which is its id.
+     *
+     * @return The state code.
+     */
+    private int stateCode() {
+        return state == null ? EventJournal.STATE_STOPPED : state.getId();
+    }
+
+    @Override
+    public void restore(final int stateCode, final int runtime, final long elapsedNanos) {
+        dispatch(() -> {
+            begin(EventJournal.EVENT_RESTORE);
+            try {
+                restoreNow(stateCode, runtime, elapsedNanos);
+                journal.record(EventJournal.EVENT_RESTORE, stateCode(), getRuntime());
+            } finally {
+                trigger = EVENT_NONE;
+            }
+        });
+    }
+
+    private void restoreNow(final int stateCode, final int runtime, final long elapsedNanos) {
+        actionStop();
+        actionCancelTimeout();
+        timeModel.setRuntime(runtime);
+        switch (stateCode) {
+            case EventJournal.STATE_RUNNING:
+                toRunningState();
+                startClock(elapsedNanos);
+                break;
+            case EventJournal.STATE_INCREMENTING:
+                toIncrementingState();
+                startClock(elapsedNanos % TICK_PERIOD_NANOS);
+                if (timeouts != null) {
+                    armTimeout(TIMEOUT_NANOS - elapsedNanos);
+                } else {
+                    forwardTicks((int) Math.min(Constants.TICK_WAIT, elapsedNanos / TICK_PERIOD_NANOS));
+                }
+                break;
+            case EventJournal.STATE_ALARMING:
+                toAlarmingState();
+                actionStart();
+                break;
+            default:
+                toStoppedState();
+        }
+        actionUpdateView();
+    }
+
+    /**
+     * The listener which updates the state machine of changes to the UI.
+     * */
+    private StopwatchModelListener listener;
+
+    /**
+     * Sets the listener which updates the state machine of changes to the UI.
+     *
+     * @param listener The listener to set for the state machine.
+     * */
+    @Override
+    public void setModelListener(final StopwatchModelListener listener) {
+        this.listener = listener;
+    }
+
+    // forward event uiUpdateListener methods to the current state,
+    // one at a time regardless of the thread they come from
+
+    /**
+     * Serializes the events dispatched to the current state.
+     */
+    private final EventDispatcher dispatcher = new EventDispatcher();
+
+    private final Runnable buttonEvent = () -> {
+        begin(EventJournal.EVENT_BUTTON);
+        try {
+            state.onButton();
+            journal.record(EventJournal.EVENT_BUTTON, stateCode(), getRuntime());
+        } finally {
+            trigger = EVENT_NONE;
+        }
+    };
+
+    private final Runnable tickEvent = () -> {
+        if (!started) {
+            droppedTicks++;
+            return;
+        }
+        begin(EventJournal.EVENT_TICK);
+        try {
+            state.onTick();
+            journal.record(EventJournal.EVENT_TICK, stateCode(), getRuntime());
+        } finally {
+            trigger = EVENT_NONE;
+        }
+    };
+
+    private final Runnable stopEvent = () -> {
+        actionStop();
+        actionCancelTimeout();
+    };
+
+    /***
+     * The method which is forwarded to the current state to describe the behavior when the button in the UI is pressed.
+     */
+    @Override public void onButton() { dispatch(buttonEvent); }
+
+    /**
+     * Dispatches the initialization of the state machine, serialized with the other events.
+     */
+    @Override public void onInit()      { dispatch(this::actionInit); }
+
+    /**
+     * Dispatches the stop of the clock and the timeout, serialized with the other events.
+     */
+    @Override
+    public void onStop() {
+        try {
+            dispatcher.dispatchAndAwait(stopEvent);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The method which is forwarded to the current state to describe the behavior when a tick passes.
+     * */
+    @Override public void onTick()      { dispatch(tickEvent); }
+
+    /**
+     * Dispatches several ticks that became due at once as a single event,
+     * so that the current state can apply them in one step.
+     *
+     * @param n The number of ticks.
+     */
+    @Override
+    public void onTicks(final int n) {
+        if (n == 1) {
+            onTick();
+        } else if (n > 1) {
+            dispatch(() -> {
+                if (!started) {
+                    droppedTicks++;
+                    return;
+                }
+                begin(EventJournal.EVENT_TICK);
+                try {
+                    state.onTicks(n);
+                    journal.record(EventJournal.EVENT_TICK, stateCode(), getRuntime());
+                } finally {
+                    trigger = EVENT_NONE;
+                }
+            });
+        }
+    }
+
+    /**
+     * Dispatches the expiry of the given timeout, unless it has since been re-armed or canceled.
+     *
+     * @param armed The generation of the timeout.
+     */
+    private void onTimeout(final int armed) {
+        dispatch(() -> {
+            if (armed != timeoutGeneration) {
+                return;
+            }
+            begin(EventJournal.EVENT_TIMEOUT);
+            try {
+                state.onTimeout();
+                journal.record(EventJournal.EVENT_TIMEOUT, stateCode(), getRuntime());
+            } finally {
+                trigger = EVENT_NONE;
+            }
+        });
+    }
+
+    private void dispatch(final Runnable event) {
+        dispatcher.dispatch(event);
+    }
+
+    /**
+     * Updates the UI with the runtime from the time model.
+     * */
+    @Override public void updateUIRuntime() {
+        final var listener = this.listener;
+        final var runtime = timeModel.getRuntime();
+        if (effects == SideEffectExecutor.DIRECT) {
+            listener.onTimeUpdate(runtime);
+        } else {
+            effects.execute(() -> listener.onTimeUpdate(runtime));
+        }
+    }
+
+    // model interactions
+    /**
+     * Returns the runtime stored in the time model.
+     * */
+    @Override public int getRuntime() { return timeModel.getRuntime();}
+
+    // clock interactions
+    @Override public boolean isTimeoutSupported() { return timeouts != null; }
+
+    // known states
+    private final StopwatchState STOPPED     = new StoppedState(this);
+    private final StopwatchState RUNNING     = new RunningState(this);
+    private final StopwatchState INCREMENTING = new IncrementingState(this);
+    private final StopwatchState ALARMING = new AlarmingState(this);
+
+    // transitions
+    @Override public void toRunningState()    { setState(RUNNING); }
+    @Override public void toStoppedState()    { setState(STOPPED); }
+    @Override public void toIncrementingState() { setState(INCREMENTING); }
+    @Override public void toAlarmingState() { setState(ALARMING); }
+    @Override public void forwardTicks(final int n) { if (n > 0) state.onTicks(n); }
+
+    // actions
+    @Override public void actionInit()       {
+        trace(KIND_INIT);
+        toStoppedState();
+        actionReset();
+        journal.record(EventJournal.EVENT_INIT, stateCode(), getRuntime());
+    }
+    @Override public void actionReset()      { timeModel.resetRuntime(); trace(KIND_RESET); actionUpdateView(); }
+    @Override public void actionStart()      { trace(KIND_START); started = true; clockModel.start(); }
+    @Override public void actionStop()       { trace(KIND_STOP); started = false; clockModel.stop(); }
+
+    /**
+     * Starts the clock with the given part of its first period already elapsed, where the clock supports it.
+     *
+     * @param elapsedNanos The part of the first period already elapsed in nanoseconds.
+     */
+    private void startClock(final long elapsedNanos) {
+        trace(KIND_START);
+        started = true;
+        if (clockModel instanceof AdjustableClockModel) {
+            ((AdjustableClockModel) clockModel).start(elapsedNanos);
+        } else {
+            clockModel.start();
+        }
+    }
+    @Override public void actionInc()        { timeModel.incRuntime(); trace(KIND_INC); actionUpdateView(); }
+    @Override public void actionDec()        { timeModel.decRuntime(); trace(KIND_DEC); actionUpdateView(); }
+    @Override public void actionDec(final int ticks) {
+        timeModel.addSeconds(-ticks * Constants.SEC_PER_TICK);
+        trace(KIND_DEC);
+        actionUpdateView();
+    }
+    @Override public void actionAlarm() {
+        trace(KIND_ALARM);
+        final var listener = this.listener;
+        if (effects == SideEffectExecutor.DIRECT) {
+            listener.soundAlarm(Constants.DEFAULT_ALARM);
+        } else {
+            effects.execute(() -> listener.soundAlarm(Constants.DEFAULT_ALARM));
+        }
+    }
+    @Override public void actionArmTimeout() { armTimeout(TIMEOUT_NANOS); }
+
+    private void armTimeout(final long delayNanos) {
+        if (timeouts != null) {
+            trace(KIND_ARM_TIMEOUT);
+            final int armed = ++timeoutGeneration;
+            timeouts.armTimeout(Math.max(0, delayNanos), () -> onTimeout(armed));
+        }
+    }
+    @Override public void actionCancelTimeout() {
+        if (timeouts != null) {
+            trace(KIND_CANCEL_TIMEOUT);
+            timeoutGeneration++;
+            timeouts.cancelTimeout();
+        }
+    }
+    @Override public void actionUpdateView() { trace(KIND_UPDATE_VIEW); state.updateView(); }
+
+    @Override
+    public int getEnteredTime() {
+        return listener.getUserRuntime();
+    }
+
+    @Override
+    public void enterTime(int runtime) {
+        timeModel.setRuntime(runtime);
+    }
+}
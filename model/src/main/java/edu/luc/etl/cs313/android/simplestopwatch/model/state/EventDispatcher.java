@@ -0,0 +1,94 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.state;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serializes the events of a state machine. Events can come from the UI thread or
+ * the timer thread, so they are dispatched one at a time by whichever thread finds
+ * the dispatcher idle; the other producers queue their events and return right away.
+ */
+final class EventDispatcher {
+
+    /**
+     * The events waiting to be dispatched.
+     */
+    private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of queued events not yet dispatched. The producer that raises it from zero drains the queue.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * The thread currently dispatching, or null if none is.
+     */
+    private final AtomicReference<Thread> dispatching = new AtomicReference<>();
+
+    /**
+     * Dispatches the given event on the calling thread if no other thread is dispatching,
+     * followed by all events queued meanwhile; otherwise enqueues it for that thread.
+     * An event dispatched right away is never queued, so that it allocates nothing.
+     *
+     * @param event The event to dispatch.
+     */
+    void dispatch(final Runnable event) {
+        Runnable next = event;
+        if (!pending.compareAndSet(0, 1)) {
+            events.offer(event);
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            next = events.poll();
+        }
+        final var current = Thread.currentThread();
+        dispatching.set(current);
+        RuntimeException failure = null;
+        while (true) {
+            try {
+                next.run();
+            } catch (final RuntimeException e) {
+                // keep draining so that a failing event cannot wedge the queue
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+            if (pending.decrementAndGet() == 0) {
+                break;
+            }
+            // the producer that counted this event has already enqueued it
+            next = events.poll();
+        }
+        // another thread may already have taken over
+        dispatching.compareAndSet(current, null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Dispatches the given event like {@link #dispatch(Runnable)} and waits until it has run,
+     * unless called from an event being dispatched, which has to return before the given one can run.
+     *
+     * @param event The event to dispatch.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    void dispatchAndAwait(final Runnable event) throws InterruptedException {
+        if (dispatching.get() == Thread.currentThread()) {
+            dispatch(event);
+            return;
+        }
+        final var done = new CountDownLatch(1);
+        dispatch(() -> {
+            try {
+                event.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+    }
+}
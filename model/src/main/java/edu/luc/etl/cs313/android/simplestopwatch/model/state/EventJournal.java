@@ -0,0 +1,39 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.state;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+
+/**
+ * Receives each event handled by the state machine together with the resulting
+ * state and runtime, so that the stopwatch can be restored after the process dies.
+ * States are identified by the stable codes defined here, which are the state ids of {@link Constants}.
+ */
+public interface EventJournal {
+
+    // the stable state codes
+    int STATE_STOPPED = Constants.STATE_STOPPED;
+    int STATE_RUNNING = Constants.STATE_RUNNING;
+    int STATE_INCREMENTING = Constants.STATE_INCREMENTING;
+    int STATE_ALARMING = Constants.STATE_ALARMING;
+
+    // the journaled events
+    int EVENT_INIT = 0;
+    int EVENT_BUTTON = 1;
+    int EVENT_TICK = 2;
+    int EVENT_RESTORE = 3;
+    int EVENT_TIMEOUT = 4;
+
+    /**
+     * A journal that discards all events.
+     */
+    EventJournal NONE = (event, state, runtime) -> { };
+
+    /**
+     * Records that the given event left the state machine in the given state and runtime.
+     * Called on the thread that dispatches the event.
+     *
+     * @param event The event handled.
+     * @param state The code of the resulting state.
+     * @param runtime The resulting runtime.
+     */
+    void record(int event, int state, int runtime);
+}
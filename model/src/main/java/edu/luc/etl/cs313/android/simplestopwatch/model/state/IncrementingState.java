@@ -1,10 +1,11 @@
 package edu.luc.etl.cs313.android.simplestopwatch.model.state;
 
-import edu.luc.etl.cs313.android.simplestopwatch.R;
 import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
 
 /**
  * Class definition for the IncrementingState class (state design pattern).
+ * If the clock provides timeouts, the wait for further button presses is a single
+ * deadline that each press pushes back; otherwise the state counts ticks.
  */
 class IncrementingState implements StopwatchState {
 
@@ -28,20 +29,34 @@ class IncrementingState implements StopwatchState {
      * When the button is pressed:
      * 1. Increment the timer.
      * 2. IF 99 seconds is reached, sound the alarm and switch to Running state.
-     * 3. ELSE reset the ticker to it's initial value of 3 seconds and switch to Incrementing state.
+     * 3. ELSE reset the ticker to it's initial value of 3 seconds, re-arm the timeout
+     *    and switch to Incrementing state.
      */
     @Override
     public void onButton() {
         sm.actionInc();
         if (sm.getRuntime() == Constants.SEC_MAX) {
+            sm.actionCancelTimeout();
             sm.actionAlarm();
             sm.toRunningState();
         } else {
             ticker = Constants.TICK_WAIT;
+            sm.actionArmTimeout();
             sm.toIncrementingState();
         }
     }
 
+    /**
+     * Implementation of onTimeout() from the TimeoutListener interface for IncrementingState.
+     * The wait has expired without a button press, so sound the alarm and switch to Running state.
+     */
+    @Override
+    public void onTimeout() {
+        ticker = Constants.TICK_WAIT;
+        sm.actionAlarm();
+        sm.toRunningState();
+    }
+
     /**
      * Implementation of onTick() from the Listener interface for IncrementingState.
      * 1. On each tick, decrement the ticker value by one.
@@ -50,6 +65,11 @@ class IncrementingState implements StopwatchState {
      */
     @Override
     public void onTick() {
+        if (sm.isTimeoutSupported()) {
+            // the timeout ends the wait
+            sm.toIncrementingState();
+            return;
+        }
         ticker--;
         if (ticker == 0) {
             ticker = Constants.TICK_WAIT;
@@ -60,6 +80,29 @@ class IncrementingState implements StopwatchState {
         }
     }
 
+    /**
+     * Applies several ticks in one step.
+     * IF the ticker runs out, sound the alarm, switch to Running state
+     * and forward the remaining ticks to it; ELSE decrement the ticker.
+     */
+    @Override
+    public void onTicks(final int n) {
+        if (sm.isTimeoutSupported()) {
+            sm.toIncrementingState();
+            return;
+        }
+        if (n < ticker) {
+            ticker -= n;
+            sm.toIncrementingState();
+        } else {
+            final int remaining = n - ticker;
+            ticker = Constants.TICK_WAIT;
+            sm.actionAlarm();
+            sm.toRunningState();
+            sm.forwardTicks(remaining);
+        }
+    }
+
     /**
      * Updates the runtime to the UI.
      * */
@@ -71,6 +114,14 @@ class IncrementingState implements StopwatchState {
      * */
     @Override
     public int getId() {
-        return R.string.INCREMENTING;
+        return Constants.STATE_INCREMENTING;
+    }
+
+    /**
+     * Needs no ticks while a timeout ends the wait.
+     */
+    @Override
+    public long getTickPeriod() {
+        return sm.isTimeoutSupported() ? 0 : Constants.TICK_PERIOD_MILLIS;
     }
 }
@@ -1,6 +1,6 @@
 package edu.luc.etl.cs313.android.simplestopwatch.model.state;
 
-import edu.luc.etl.cs313.android.simplestopwatch.R;
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
 
 /**
  * Class definition for the RunningState class (state design pattern).
@@ -53,6 +53,34 @@ class RunningState implements StopwatchState {
         }
     }
 
+    /**
+     * Applies several ticks in one step, with a single view update.
+     * 1. IF the timer does not run out, decrement it by the number of ticks.
+     * 2. ELSE decrement it to 0 and go to Alarming state; any ticks beyond the one
+     *    that entered Alarming state sound the alarm once.
+     */
+    @Override
+    public void onTicks(final int n) {
+        final int runtime = sm.getRuntime();
+        if (n <= runtime) {
+            sm.actionDec(n);
+            sm.toRunningState();
+        } else {
+            if (runtime > 0) {
+                sm.actionDec(runtime);
+            }
+            sm.toAlarmingState();
+            sm.forwardTicks(n - runtime - 1);
+        }
+    }
+
+    /**
+     * Implementation of onTimeout() from the TimeoutListener interface for RunningState.
+     * Timeouts are only armed in Incrementing state, so there is nothing to do.
+     */
+    @Override
+    public void onTimeout() { }
+
     /**
      * Updates the runtime to the UI.
      * */
@@ -66,6 +94,11 @@ class RunningState implements StopwatchState {
      * */
     @Override
     public int getId() {
-        return R.string.RUNNING;
+        return Constants.STATE_RUNNING;
+    }
+
+    @Override
+    public long getTickPeriod() {
+        return Constants.TICK_PERIOD_MILLIS;
     }
 }
@@ -0,0 +1,307 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.state;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the side effects of the state machine (view updates and alarms) in order on a
+ * dedicated daemon thread, so that slow listeners do not delay the dispatch of later events.
+ * The queue of waiting effects is bounded: when it is full, the producer waits for room,
+ * which throttles the event source instead of letting the backlog grow without limit.
+ * Queue depth and enqueue-to-run latency are tracked for monitoring.
+ * Closing the executor runs the effects already queued and then ends its worker;
+ * effects submitted afterwards, or abandoned by an interrupted producer, are dropped and counted.
+ */
+public class SideEffectExecutor implements Executor, Closeable {
+
+    /**
+     * The default number of effects that may wait to be run.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Runs each effect directly on the dispatching thread. The state machines recognize it
+     * and call the listener without wrapping the effect, so that an update allocates nothing.
+     */
+    public static final Executor DIRECT = Runnable::run;
+
+    /**
+     * How often a flush checks whether the worker has ended, in milliseconds.
+     */
+    private static final long FLUSH_POLL_MILLIS = 10;
+
+    private static final class Shared {
+        static final SideEffectExecutor INSTANCE = new SideEffectExecutor(DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Returns the process-wide effect executor shared by all stopwatches.
+     * Closing it only flushes it, since other stopwatches may still use it.
+     *
+     * @return The shared effect executor.
+     */
+    public static SideEffectExecutor getShared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * An effect together with the time it was enqueued.
+     */
+    private static final class Effect {
+        final Runnable action;
+        final long enqueued;
+
+        Effect(final Runnable action, final long enqueued) {
+            this.action = action;
+            this.enqueued = enqueued;
+        }
+    }
+
+    /**
+     * The effect that wakes the worker to end once all effects queued before it have run.
+     */
+    private static final Effect END = new Effect(null, 0);
+
+    private final BlockingQueue<Effect> queue;
+
+    private final Thread worker;
+
+    private final boolean shared;
+
+    private volatile boolean closed;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    // metrics, written by the worker thread except for stalls and maxDepth
+    private volatile long executed;
+    private volatile long totalLatency;
+    private volatile long maxLatency;
+    private volatile int maxDepth;
+    private volatile long stalls;
+
+    /**
+     * Creates an effect executor with its own worker thread.
+     *
+     * @param capacity The maximum number of effects waiting to be run.
+     */
+    public SideEffectExecutor(final int capacity) {
+        this(capacity, false);
+    }
+
+    private SideEffectExecutor(final int capacity, final boolean shared) {
+        this.shared = shared;
+        queue = new ArrayBlockingQueue<>(capacity);
+        worker = new Thread(this::drain, "stopwatch-effects");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Enqueues the given effect. Waits if the queue is full. An effect submitted by
+     * another effect runs immediately, since waiting for room would deadlock the worker.
+     * Once the executor is closed, the effect is dropped.
+     *
+     * @param action The effect to run.
+     */
+    @Override
+    public void execute(final Runnable action) {
+        if (Thread.currentThread() == worker) {
+            action.run();
+            return;
+        }
+        if (closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        final var effect = new Effect(action, System.nanoTime());
+        if (!queue.offer(effect)) {
+            synchronized (this) {
+                stalls++;
+            }
+            try {
+                queue.put(effect);
+            } catch (final InterruptedException e) {
+                dropped.incrementAndGet();
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (closed && queue.remove(effect)) {
+            // enqueued behind the end of the worker, so it would never run
+            dropped.incrementAndGet();
+            return;
+        }
+        final var depth = queue.size();
+        if (depth > maxDepth) {
+            synchronized (this) {
+                if (depth > maxDepth) {
+                    maxDepth = depth;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until all effects submitted before this call have run.
+     * Returns immediately when called from an effect or once the executor is closed.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+        if (Thread.currentThread() == worker || closed) {
+            return;
+        }
+        final var done = new CountDownLatch(1);
+        execute(done::countDown);
+        // the latch is dropped if the executor is closed meanwhile
+        while (!done.await(FLUSH_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (!worker.isAlive()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Runs the effects already queued, then ends the worker and waits for it.
+     * Later effects are dropped, and so are the queued ones when called from an effect,
+     * which cannot wait for them. The shared executor is only flushed.
+     */
+    @Override
+    public void close() {
+        try {
+            if (shared) {
+                flush();
+                return;
+            }
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            if (Thread.currentThread() == worker) {
+                // the worker ends once it returns from the current effect
+                discardQueued();
+                return;
+            }
+            queue.put(END);
+            worker.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void discardQueued() {
+        Effect effect;
+        while ((effect = queue.poll()) != null) {
+            if (effect != END) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final Effect effect;
+            try {
+                effect = queue.take();
+            } catch (final InterruptedException e) {
+                closed = true;
+                discardQueued();
+                return;
+            }
+            if (effect == END) {
+                discardQueued();
+                return;
+            }
+            final var latency = System.nanoTime() - effect.enqueued;
+            totalLatency += latency;
+            if (latency > maxLatency) {
+                maxLatency = latency;
+            }
+            try {
+                effect.action.run();
+            } catch (final RuntimeException e) {
+                // a failing listener must not stop later effects
+                final var handler = Thread.getDefaultUncaughtExceptionHandler();
+                if (handler != null) {
+                    handler.uncaughtException(worker, e);
+                }
+            }
+            executed++;
+            if (closed && queue.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of effects currently waiting to be run.
+     *
+     * @return The current queue depth.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the largest number of effects seen waiting at once.
+     *
+     * @return The maximum queue depth.
+     */
+    public int getMaxQueueDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns how many times a producer had to wait because the queue was full.
+     *
+     * @return The number of backpressure stalls.
+     */
+    public long getStalls() {
+        return stalls;
+    }
+
+    /**
+     * Returns the number of effects dropped because the executor was closed
+     * or their producer was interrupted while waiting for room.
+     *
+     * @return The number of dropped effects.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the number of effects run so far.
+     *
+     * @return The number of executed effects.
+     */
+    public long getExecuted() {
+        return executed;
+    }
+
+    /**
+     * Returns the mean time effects waited between being enqueued and starting to run.
+     *
+     * @return The mean latency in nanoseconds, zero if no effect has run yet.
+     */
+    public long getMeanLatencyNanos() {
+        final var count = executed;
+        return count == 0 ? 0 : totalLatency / count;
+    }
+
+    /**
+     * Returns the longest time an effect waited between being enqueued and starting to run.
+     *
+     * @return The maximum latency in nanoseconds.
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatency;
+    }
+}
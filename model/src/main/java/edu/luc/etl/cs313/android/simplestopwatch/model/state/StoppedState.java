@@ -1,6 +1,5 @@
 package edu.luc.etl.cs313.android.simplestopwatch.model.state;
 
-import edu.luc.etl.cs313.android.simplestopwatch.R;
 import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
 
 /**
@@ -25,7 +24,7 @@ class StoppedState implements StopwatchState {
      * Implementation of onButton() from the StopwatchUIListener interface for StoppedState.
      * When the button is pressed:
      * 1. Increment the timer.
-     * 2. Start running the stopwatch.
+     * 2. Start running the stopwatch and arm the timeout for further presses.
      * 3. Switch to Incrementing state.
      */
     @Override
@@ -34,6 +33,7 @@ class StoppedState implements StopwatchState {
         if (enteredTime == Constants.UI_DEFAULT) {
             sm.actionInc();
             sm.actionStart();
+            sm.actionArmTimeout();
             sm.toIncrementingState();
         } else {
             sm.enterTime(enteredTime);
@@ -47,12 +47,20 @@ class StoppedState implements StopwatchState {
     /**
      * Implementation of onTick() from the TickListener interface for StoppedState.
      * The Stopped state is not to allow ticks, so throw an error if a tick occurs.
+     * The state machine drops ticks that arrive after the clock was stopped, so they never get here.
      */
     @Override
     public void onTick() {
         throw new UnsupportedOperationException("onTick");
     }
 
+    /**
+     * Implementation of onTimeout() from the TimeoutListener interface for StoppedState.
+     * Timeouts are only armed in Incrementing state, so there is nothing to do.
+     */
+    @Override
+    public void onTimeout() { }
+
     /**
      * Updates the runtime to the UI.
      * */
@@ -66,6 +74,11 @@ class StoppedState implements StopwatchState {
      * */
     @Override
     public int getId() {
-        return R.string.STOPPED;
+        return Constants.STATE_STOPPED;
+    }
+
+    @Override
+    public long getTickPeriod() {
+        return 0;
     }
 }
@@ -11,11 +11,15 @@ interface StopwatchSMStateView {
     // time model interactions
     int getRuntime();
 
+    // clock interactions
+    boolean isTimeoutSupported();
+
     // transitions
     void toRunningState();
     void toStoppedState();
     void toIncrementingState();
     void toAlarmingState();
+    void forwardTicks(int n);
 
     // actions
     void actionInit();
@@ -25,7 +29,10 @@ interface StopwatchSMStateView {
     void actionInc();
     void actionUpdateView();
     void actionDec();
+    void actionDec(int ticks);
     void actionAlarm();
+    void actionArmTimeout();
+    void actionCancelTimeout();
 
     // state-dependent UI updates
     void updateUIRuntime();
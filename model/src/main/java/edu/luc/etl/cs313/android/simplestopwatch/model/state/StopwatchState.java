@@ -2,13 +2,22 @@ package edu.luc.etl.cs313.android.simplestopwatch.model.state;
 
 import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchUIListener;
 import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TickListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimeoutListener;
 
 /**
  * A state in a state machine. This interface is part of the State pattern.
  *
  * @author laufer
  */
-interface StopwatchState extends StopwatchUIListener, TickListener {
+interface StopwatchState extends StopwatchUIListener, TickListener, TimeoutListener {
     void updateView();
     int getId();
+
+    /**
+     * Returns how often this state needs a tick, which the machine passes on to
+     * an adjustable clock on entering the state.
+     *
+     * @return The tick period in milliseconds, or zero if the state needs no ticks.
+     */
+    long getTickPeriod();
 }
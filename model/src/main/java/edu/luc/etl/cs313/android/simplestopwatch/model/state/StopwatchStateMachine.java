@@ -0,0 +1,82 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.state;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelSource;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchUIListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TickListener;
+
+/**
+ * The state machine for the state-based dynamic model of the stopwatch.
+ * This interface is part of the State pattern.
+ *
+ * @author laufer
+ */
+public interface StopwatchStateMachine extends StopwatchUIListener, TickListener, StopwatchModelSource, StopwatchSMStateView {
+
+    /**
+     * Sets the journal to which each handled event is reported.
+     *
+     * @param journal The journal, or {@link EventJournal#NONE}.
+     */
+    void setJournal(EventJournal journal);
+
+    /**
+     * Sets the trace to which the transitions and actions are recorded from now on.
+     * Untraced by default, so that a machine costs neither the memory of a trace
+     * nor a clock read per event unless its caller asks for one.
+     *
+     * @param trace The trace, sized by the caller, or null to stop tracing.
+     */
+    void setTrace(TransitionTrace trace);
+
+    /**
+     * Returns the trace of the most recent transitions and actions, which can be dumped on demand.
+     *
+     * @return The transition trace, or null if the machine is not traced.
+     */
+    TransitionTrace getTrace();
+
+    /**
+     * Initializes the state machine into the stopped state with a reset runtime,
+     * as an event serialized with the button presses and ticks.
+     */
+    void onInit();
+
+    /**
+     * Stops the clock and cancels the timeout, if any, as an event serialized with the
+     * button presses and ticks, and waits until it has been handled, unless called from
+     * within an event. The state and runtime stay as they are, so that they can be restored.
+     * Ticks and timeouts dispatched after it are dropped.
+     */
+    void onStop();
+
+    /**
+     * Puts the state machine directly into the given state with the given runtime,
+     * starting or stopping the clock as that state requires. This is an event serialized
+     * with the button presses and ticks, so a tick being handled completes first.
+     *
+     * @param state The code of the state, as defined in {@link EventJournal}.
+     * @param runtime The runtime.
+     */
+    default void restore(int state, int runtime) {
+        restore(state, runtime, 0);
+    }
+
+    /**
+     * Restores the given state like {@link #restore(int, int)}, taking into account the
+     * time that has already passed in it: the wait of the incrementing state only lasts
+     * for what remains of it, and the next tick keeps the phase of the earlier ones.
+     *
+     * @param state The code of the state, as defined in {@link EventJournal}.
+     * @param runtime The runtime.
+     * @param elapsedNanos The time already passed in the current wait or tick period in nanoseconds.
+     */
+    void restore(int state, int runtime, long elapsedNanos);
+
+    /**
+     * Returns the number of tick events dropped because they arrived while the clock
+     * was stopped, for example a tick already on its way when the button stopped the stopwatch.
+     *
+     * @return The number of dropped tick events.
+     */
+    long getDroppedTicks();
+}
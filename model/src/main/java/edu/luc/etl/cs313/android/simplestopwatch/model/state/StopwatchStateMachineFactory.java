@@ -0,0 +1,19 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.state;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.TimeModel;
+
+/**
+ * A factory for state machines, used to run the same driver against either
+ * implementation, for example {@code TableStopwatchStateMachine::new}.
+ */
+public interface StopwatchStateMachineFactory {
+    /**
+     * Creates a new, uninitialized state machine on the given models.
+     *
+     * @param timeModel The passive time model.
+     * @param clockModel The active clock model.
+     * @return The newly created state machine.
+     */
+    StopwatchStateMachine create(TimeModel timeModel, ClockModel clockModel);
+}
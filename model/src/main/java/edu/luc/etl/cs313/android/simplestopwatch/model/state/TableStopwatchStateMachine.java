@@ -0,0 +1,582 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.state;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.AdjustableClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimeoutService;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.TimeModel;
+
+import static edu.luc.etl.cs313.android.simplestopwatch.model.state.TransitionTrace.*;
+
+/**
+ * An implementation of the state machine for the stopwatch that encodes states and
+ * events as small ints and looks up each transition in flat primitive tables instead
+ * of dispatching to state objects. A guard evaluated before the lookup selects one of
+ * two rows per state and event; each row holds the next state and a bitmask of the
+ * actions to perform, which run in the order of their bits. It behaves like
+ * {@link DefaultStopwatchStateMachine}, including the optional transition trace.
+ */
+public class TableStopwatchStateMachine implements StopwatchStateMachine {
+
+    // the states, numbered by their ids
+    private static final int STOPPED = Constants.STATE_STOPPED;
+    private static final int RUNNING = Constants.STATE_RUNNING;
+    private static final int INCREMENTING = Constants.STATE_INCREMENTING;
+    private static final int ALARMING = Constants.STATE_ALARMING;
+    private static final int STATES = 4;
+
+    // the events
+    private static final int BUTTON = 0;
+    private static final int TICK = 1;
+    private static final int TIMEOUT = 2;
+    private static final int EVENTS = 3;
+
+    // the guards that select the row for a state and event
+    private static final int G_NONE = 0;
+    private static final int G_TIME_ENTERED = 1;
+    private static final int G_REACHES_MAX = 2;
+    private static final int G_RUN_OUT = 3;
+    private static final int G_WAITED = 4;
+
+    // the actions, performed in the order of their bits
+    private static final int A_STOP = 1;
+    private static final int A_ENTER = 1 << 1;
+    private static final int A_INC = 1 << 2;
+    private static final int A_DEC = 1 << 3;
+    private static final int A_UPDATE_VIEW = 1 << 4;
+    private static final int A_ALARM = 1 << 5;
+    private static final int A_CANCEL_TIMEOUT = 1 << 6;
+    private static final int A_TRANSITION = 1 << 7;
+    private static final int A_START = 1 << 8;
+    private static final int A_ARM_TIMEOUT = 1 << 9;
+    private static final int A_INIT = 1 << 10;
+    private static final int A_FAIL = 1 << 11;
+
+    /**
+     * The guard of each state and event.
+     */
+    private static final byte[] GUARDS = new byte[STATES * EVENTS];
+
+    /**
+     * The next state of each row, where a row is a state and event with the guard's outcome.
+     */
+    private static final byte[] NEXT = new byte[STATES * EVENTS * 2];
+
+    /**
+     * The actions of each row.
+     */
+    private static final short[] ACTIONS = new short[STATES * EVENTS * 2];
+
+    static {
+        row(STOPPED, BUTTON, G_TIME_ENTERED,
+                A_INC | A_START | A_ARM_TIMEOUT | A_TRANSITION, INCREMENTING,
+                A_ENTER | A_UPDATE_VIEW | A_ALARM | A_TRANSITION | A_START, RUNNING);
+        row(STOPPED, TICK, G_NONE, A_FAIL, STOPPED, A_FAIL, STOPPED);
+        row(STOPPED, TIMEOUT, G_NONE, 0, STOPPED, 0, STOPPED);
+        row(INCREMENTING, BUTTON, G_REACHES_MAX,
+                A_INC | A_ARM_TIMEOUT | A_TRANSITION, INCREMENTING,
+                A_INC | A_CANCEL_TIMEOUT | A_ALARM | A_TRANSITION, RUNNING);
+        row(INCREMENTING, TICK, G_WAITED, 0, INCREMENTING, A_ALARM | A_TRANSITION, RUNNING);
+        row(INCREMENTING, TIMEOUT, G_NONE, A_ALARM | A_TRANSITION, RUNNING, A_ALARM | A_TRANSITION, RUNNING);
+        row(RUNNING, BUTTON, G_NONE, A_STOP | A_ALARM | A_INIT, STOPPED, A_STOP | A_ALARM | A_INIT, STOPPED);
+        row(RUNNING, TICK, G_RUN_OUT, A_DEC | A_TRANSITION, RUNNING, A_TRANSITION, ALARMING);
+        row(RUNNING, TIMEOUT, G_NONE, 0, RUNNING, 0, RUNNING);
+        row(ALARMING, BUTTON, G_NONE, A_STOP | A_INIT, STOPPED, A_STOP | A_INIT, STOPPED);
+        row(ALARMING, TICK, G_NONE, A_ALARM | A_TRANSITION, ALARMING, A_ALARM | A_TRANSITION, ALARMING);
+        row(ALARMING, TIMEOUT, G_NONE, 0, ALARMING, 0, ALARMING);
+    }
+
+    private static void row(final int state, final int event, final int guard,
+            final int actions, final int next, final int guardedActions, final int guardedNext) {
+        final int cell = state * EVENTS + event;
+        GUARDS[cell] = (byte) guard;
+        ACTIONS[cell << 1] = (short) actions;
+        NEXT[cell << 1] = (byte) next;
+        ACTIONS[cell << 1 | 1] = (short) guardedActions;
+        NEXT[cell << 1 | 1] = (byte) guardedNext;
+    }
+
+    /**
+     * The journal event of each event.
+     */
+    private static final int[] JOURNAL_EVENTS = { EventJournal.EVENT_BUTTON, EventJournal.EVENT_TICK, EventJournal.EVENT_TIMEOUT };
+
+    /**
+     * The time Incrementing state waits for another button press.
+     */
+    private static final long TIMEOUT_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Constants.TICK_WAIT * Constants.TICK_PERIOD_MILLIS);
+
+    /**
+     * The time between two ticks while counting.
+     */
+    private static final long TICK_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(Constants.TICK_PERIOD_MILLIS);
+
+    /**
+     * Constructor method for the state machine. Requires the passive time model and active clock model.
+     *
+     * @param timeModel The passive time model.
+     * @param clockModel The active clock model.
+     * */
+    public TableStopwatchStateMachine(final TimeModel timeModel, final ClockModel clockModel) {
+        this(timeModel, clockModel, SideEffectExecutor.DIRECT);
+    }
+
+    /**
+     * Constructor method for the state machine whose side effects run on the given executor.
+     *
+     * @param timeModel The passive time model.
+     * @param clockModel The active clock model.
+     * @param effects The executor for the side effects towards the listener.
+     * */
+    public TableStopwatchStateMachine(final TimeModel timeModel, final ClockModel clockModel, final Executor effects) {
+        this.timeModel = timeModel;
+        this.clockModel = clockModel;
+        this.adjustable = clockModel instanceof AdjustableClockModel ? (AdjustableClockModel) clockModel : null;
+        this.timeouts = clockModel instanceof TimeoutService ? (TimeoutService) clockModel : null;
+        this.effects = effects;
+        periods = new long[] { 0, Constants.TICK_PERIOD_MILLIS,
+                timeouts != null ? 0 : Constants.TICK_PERIOD_MILLIS, Constants.ALARM_PERIOD_MILLIS };
+    }
+
+    private final TimeModel timeModel;
+
+    private final ClockModel clockModel;
+
+    /**
+     * The clock model if its tick period can be adjusted, otherwise null.
+     */
+    private final AdjustableClockModel adjustable;
+
+    /**
+     * The timeouts provided by the clock model, or null if it provides none.
+     */
+    private final TimeoutService timeouts;
+
+    /**
+     * The executor for the side effects towards the listener.
+     */
+    private final Executor effects;
+
+    /**
+     * The tick period each state needs, or zero if it needs no ticks.
+     */
+    private final long[] periods;
+
+    /**
+     * The current state, or -1 before initialization.
+     */
+    private int state = -1;
+
+    /**
+     * The ticks left in Incrementing state when counting ticks instead of using a timeout.
+     */
+    private int ticker = Constants.TICK_WAIT;
+
+    /**
+     * Incremented on each arm and cancel, so that a stale timeout is ignored.
+     */
+    private int timeoutGeneration;
+
+    private StopwatchModelListener listener;
+
+    private EventJournal journal = EventJournal.NONE;
+
+    /**
+     * The recent transitions and actions of this state machine, or null if they are not traced.
+     */
+    private TransitionTrace trace;
+
+    /**
+     * The event currently being dispatched, recorded in the trace as the trigger.
+     */
+    private int trigger = EVENT_NONE;
+
+    /**
+     * The time at which the current event started being dispatched, shared by all its records.
+     */
+    private long triggerNanos;
+
+    /**
+     * Whether the clock is started, so that a tick arriving after it was stopped is dropped.
+     */
+    private boolean started;
+
+    /**
+     * The number of tick events dropped because the clock was stopped.
+     */
+    private volatile long droppedTicks;
+
+    private final EventDispatcher dispatcher = new EventDispatcher();
+
+    private final Runnable buttonEvent = () -> handle(BUTTON);
+
+    private final Runnable tickEvent = () -> {
+        if (started) {
+            handle(TICK);
+        } else {
+            droppedTicks++;
+        }
+    };
+
+    private final Runnable stopEvent = () -> {
+        actionStop();
+        actionCancelTimeout();
+    };
+
+    @Override
+    public void setModelListener(final StopwatchModelListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void setJournal(final EventJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    @Override
+    public void setTrace(final TransitionTrace trace) {
+        this.trace = trace;
+    }
+
+    @Override
+    public TransitionTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Records the given action in the trace, in the current state.
+     *
+     * @param kind The kind of action.
+     */
+    private void trace(final int kind) {
+        final var trace = this.trace;
+        if (trace != null) {
+            trace.record(traceTime(), trigger, kind, state, state, timeModel.getRuntime());
+        }
+    }
+
+    /**
+     * Starts dispatching the given event, reading the clock only if the event is traced.
+     *
+     * @param event The event, as defined in {@link EventJournal}.
+     */
+    private void begin(final int event) {
+        trigger = event;
+        if (trace != null) {
+            triggerNanos = System.nanoTime();
+        }
+    }
+
+    private long traceTime() {
+        return trigger == EVENT_NONE ? System.nanoTime() : triggerNanos;
+    }
+
+    @Override
+    public void restore(final int stateCode, final int runtime, final long elapsedNanos) {
+        dispatcher.dispatch(() -> {
+            begin(EventJournal.EVENT_RESTORE);
+            try {
+                restoreNow(stateCode, runtime, elapsedNanos);
+                journal.record(EventJournal.EVENT_RESTORE, state, getRuntime());
+            } finally {
+                trigger = EVENT_NONE;
+            }
+        });
+    }
+
+    private void restoreNow(final int stateCode, final int runtime, final long elapsedNanos) {
+        actionStop();
+        actionCancelTimeout();
+        timeModel.setRuntime(runtime);
+        final int restored = stateCode >= 0 && stateCode < STATES ? stateCode : STOPPED;
+        setState(restored);
+        if (restored == INCREMENTING) {
+            startClock(elapsedNanos % TICK_PERIOD_NANOS);
+            ticker = Constants.TICK_WAIT;
+            if (timeouts != null) {
+                armTimeout(TIMEOUT_NANOS - elapsedNanos);
+            } else {
+                forwardTicks((int) Math.min(Constants.TICK_WAIT, elapsedNanos / TICK_PERIOD_NANOS));
+            }
+        } else if (restored == RUNNING) {
+            startClock(elapsedNanos);
+        } else if (restored != STOPPED) {
+            actionStart();
+        }
+        actionUpdateView();
+    }
+
+    @Override public void onInit() { dispatcher.dispatch(this::actionInit); }
+
+    /**
+     * Dispatches the stop of the clock and the timeout, serialized with the other events.
+     */
+    @Override
+    public void onStop() {
+        try {
+            dispatcher.dispatchAndAwait(stopEvent);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override public void onButton() { dispatcher.dispatch(buttonEvent); }
+
+    @Override public void onTick() { dispatcher.dispatch(tickEvent); }
+
+    @Override
+    public void onTicks(final int n) {
+        if (n == 1) {
+            onTick();
+        } else if (n > 1) {
+            dispatcher.dispatch(() -> {
+                if (!started) {
+                    droppedTicks++;
+                    return;
+                }
+                begin(EventJournal.EVENT_TICK);
+                try {
+                    ticks(n);
+                    journal.record(EventJournal.EVENT_TICK, state, getRuntime());
+                } finally {
+                    trigger = EVENT_NONE;
+                }
+            });
+        }
+    }
+
+    private void onTimeout(final int armed) {
+        dispatcher.dispatch(() -> {
+            if (armed == timeoutGeneration) {
+                handle(TIMEOUT);
+            }
+        });
+    }
+
+    /**
+     * Looks up and performs the transition of the current state for the given event.
+     *
+     * @param event The event.
+     */
+    private void handle(final int event) {
+        begin(JOURNAL_EVENTS[event]);
+        try {
+            final int cell = state * EVENTS + event;
+            // the user may change the entered time meanwhile, so guard and action share one read
+            final int entered = GUARDS[cell] == G_TIME_ENTERED ? getEnteredTime() : Constants.UI_DEFAULT;
+            final int row = cell << 1 | (guard(GUARDS[cell], entered) ? 1 : 0);
+            perform(ACTIONS[row], NEXT[row], entered);
+            journal.record(JOURNAL_EVENTS[event], state, getRuntime());
+        } finally {
+            trigger = EVENT_NONE;
+        }
+    }
+
+    private boolean guard(final int guard, final int entered) {
+        switch (guard) {
+            case G_TIME_ENTERED:
+                return entered != Constants.UI_DEFAULT;
+            case G_REACHES_MAX:
+                return getRuntime() + Constants.SEC_PER_TICK == Constants.SEC_MAX;
+            case G_RUN_OUT:
+                return getRuntime() == 0;
+            case G_WAITED:
+                // while a timeout ends the wait, ticks do not count
+                return timeouts == null && --ticker == 0;
+            default:
+                return false;
+        }
+    }
+
+    private void perform(final int actions, final int next, final int entered) {
+        if ((actions & A_FAIL) != 0) {
+            throw new UnsupportedOperationException("onTick");
+        }
+        if ((actions & A_STOP) != 0) actionStop();
+        if ((actions & A_ENTER) != 0) enterTime(entered);
+        if ((actions & A_INC) != 0) actionInc();
+        if ((actions & A_DEC) != 0) actionDec();
+        if ((actions & A_UPDATE_VIEW) != 0) actionUpdateView();
+        if ((actions & A_ALARM) != 0) actionAlarm();
+        if ((actions & A_CANCEL_TIMEOUT) != 0) actionCancelTimeout();
+        if ((actions & A_TRANSITION) != 0) setState(next);
+        if ((actions & A_START) != 0) actionStart();
+        if ((actions & A_ARM_TIMEOUT) != 0) actionArmTimeout();
+        if ((actions & A_INIT) != 0) actionInit();
+    }
+
+    /**
+     * Applies several ticks in one step, with the same outcome as the state objects
+     * of {@link DefaultStopwatchStateMachine}.
+     *
+     * @param n The number of ticks.
+     */
+    private void ticks(int n) {
+        while (n > 0) {
+            switch (state) {
+                case INCREMENTING:
+                    if (timeouts != null) {
+                        // the timeout ends the wait
+                        return;
+                    }
+                    if (n < ticker) {
+                        ticker -= n;
+                        return;
+                    }
+                    n -= ticker;
+                    ticker = Constants.TICK_WAIT;
+                    perform(A_ALARM | A_TRANSITION, RUNNING, Constants.UI_DEFAULT);
+                    break;
+                case RUNNING:
+                    final int runtime = getRuntime();
+                    if (n <= runtime) {
+                        actionDec(n);
+                        return;
+                    }
+                    if (runtime > 0) {
+                        actionDec(runtime);
+                    }
+                    setState(ALARMING);
+                    n -= runtime + 1;
+                    break;
+                case ALARMING:
+                    // several ticks sound the alarm only once
+                    actionAlarm();
+                    return;
+                default:
+                    throw new UnsupportedOperationException("onTick");
+            }
+        }
+    }
+
+    private void setState(final int state) {
+        if (state == this.state) {
+            return;
+        }
+        final int previous = this.state;
+        this.state = state;
+        if (adjustable != null) {
+            adjustable.setTickPeriod(periods[state]);
+        }
+        final var trace = this.trace;
+        if (trace != null) {
+            trace.record(traceTime(), trigger, KIND_TRANSITION, previous, state, timeModel.getRuntime());
+        }
+        final var listener = this.listener;
+        if (effects == SideEffectExecutor.DIRECT) {
+            listener.onStateUpdate(state);
+        } else {
+            effects.execute(() -> listener.onStateUpdate(state));
+        }
+    }
+
+    // model interactions
+    @Override public int getRuntime() { return timeModel.getRuntime(); }
+
+    @Override public boolean isTimeoutSupported() { return timeouts != null; }
+
+    @Override
+    public void updateUIRuntime() {
+        final var listener = this.listener;
+        final var runtime = timeModel.getRuntime();
+        if (effects == SideEffectExecutor.DIRECT) {
+            listener.onTimeUpdate(runtime);
+        } else {
+            effects.execute(() -> listener.onTimeUpdate(runtime));
+        }
+    }
+
+    @Override
+    public int getEnteredTime() {
+        return listener.getUserRuntime();
+    }
+
+    @Override
+    public void enterTime(final int runtime) {
+        timeModel.setRuntime(runtime);
+    }
+
+    // transitions
+    @Override public void toRunningState() { setState(RUNNING); }
+    @Override public void toStoppedState() { setState(STOPPED); }
+    @Override public void toIncrementingState() { setState(INCREMENTING); }
+    @Override public void toAlarmingState() { setState(ALARMING); }
+    @Override public void forwardTicks(final int n) { if (n > 0) ticks(n); }
+
+    // actions
+    @Override
+    public void actionInit() {
+        trace(KIND_INIT);
+        setState(STOPPED);
+        actionReset();
+        journal.record(EventJournal.EVENT_INIT, state, getRuntime());
+    }
+    @Override public void actionReset() { timeModel.resetRuntime(); trace(KIND_RESET); actionUpdateView(); }
+    @Override public void actionStart() { trace(KIND_START); started = true; clockModel.start(); }
+    @Override public void actionStop() { trace(KIND_STOP); started = false; clockModel.stop(); }
+    @Override public void actionInc() { timeModel.incRuntime(); trace(KIND_INC); actionUpdateView(); }
+    @Override public void actionDec() { timeModel.decRuntime(); trace(KIND_DEC); actionUpdateView(); }
+    @Override
+    public void actionDec(final int ticks) {
+        timeModel.addSeconds(-ticks * Constants.SEC_PER_TICK);
+        trace(KIND_DEC);
+        actionUpdateView();
+    }
+    @Override
+    public void actionAlarm() {
+        trace(KIND_ALARM);
+        final var listener = this.listener;
+        if (effects == SideEffectExecutor.DIRECT) {
+            listener.soundAlarm(Constants.DEFAULT_ALARM);
+        } else {
+            effects.execute(() -> listener.soundAlarm(Constants.DEFAULT_ALARM));
+        }
+    }
+    @Override
+    public void actionArmTimeout() {
+        ticker = Constants.TICK_WAIT;
+        armTimeout(TIMEOUT_NANOS);
+    }
+    @Override
+    public void actionCancelTimeout() {
+        if (timeouts != null) {
+            trace(KIND_CANCEL_TIMEOUT);
+            timeoutGeneration++;
+            timeouts.cancelTimeout();
+        }
+    }
+    @Override public void actionUpdateView() { trace(KIND_UPDATE_VIEW); updateUIRuntime(); }
+
+    /**
+     * Starts the clock with the given part of its first period already elapsed, where the clock supports it.
+     *
+     * @param elapsedNanos The part of the first period already elapsed in nanoseconds.
+     */
+    private void startClock(final long elapsedNanos) {
+        trace(KIND_START);
+        started = true;
+        if (adjustable != null) {
+            adjustable.start(elapsedNanos);
+        } else {
+            clockModel.start();
+        }
+    }
+
+    private void armTimeout(final long delayNanos) {
+        if (timeouts != null) {
+            trace(KIND_ARM_TIMEOUT);
+            final int armed = ++timeoutGeneration;
+            timeouts.armTimeout(Math.max(0, delayNanos), () -> onTimeout(armed));
+        }
+    }
+}
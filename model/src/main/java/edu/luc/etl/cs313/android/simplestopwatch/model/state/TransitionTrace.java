@@ -0,0 +1,164 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.state;
+
+/**
+ * A fixed-capacity ring buffer of the transitions and actions of a state machine,
+ * kept in primitive arrays so that recording allocates nothing. Once full, each new
+ * record overwrites the oldest one. Records are written by the single thread that
+ * dispatches events; other threads may read them, and see a consistent record
+ * except while it is being overwritten.
+ */
+public class TransitionTrace {
+
+    /**
+     * The event of a record made outside of any event; otherwise the event is one of
+     * the event codes of {@link EventJournal}, so that traces and journals agree.
+     */
+    public static final int EVENT_NONE = -1;
+
+    // the kinds of records
+    public static final int KIND_TRANSITION = 0;
+    public static final int KIND_INIT = 1;
+    public static final int KIND_RESET = 2;
+    public static final int KIND_START = 3;
+    public static final int KIND_STOP = 4;
+    public static final int KIND_INC = 5;
+    public static final int KIND_DEC = 6;
+    public static final int KIND_ALARM = 7;
+    public static final int KIND_UPDATE_VIEW = 8;
+    public static final int KIND_ARM_TIMEOUT = 9;
+    public static final int KIND_CANCEL_TIMEOUT = 10;
+
+    /**
+     * The name of each event, indexed by its code plus one.
+     */
+    private static final String[] EVENT_NAMES = { "-", "init", "button", "tick", "restore", "timeout" };
+
+    private static final String[] KIND_NAMES = {
+            "transition", "init", "reset", "start", "stop", "inc", "dec", "alarm", "updateView",
+            "armTimeout", "cancelTimeout" };
+
+    private final int mask;
+
+    private final long[] nanos;
+
+    private final int[] from;
+
+    private final int[] to;
+
+    private final byte[] events;
+
+    private final byte[] kinds;
+
+    private final int[] runtimes;
+
+    /**
+     * The number of records written so far; the next one goes to this position modulo the capacity.
+     */
+    private volatile long position;
+
+    /**
+     * Creates a trace.
+     *
+     * @param capacity The number of records kept, rounded up to a power of two.
+     */
+    public TransitionTrace(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        final int length = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        mask = length - 1;
+        nanos = new long[length];
+        from = new int[length];
+        to = new int[length];
+        events = new byte[length];
+        kinds = new byte[length];
+        runtimes = new int[length];
+    }
+
+    /**
+     * Appends a record, overwriting the oldest one if the trace is full.
+     *
+     * @param time The monotonic time of the record in nanoseconds.
+     * @param event The event being dispatched, as defined in {@link EventJournal}, or {@link #EVENT_NONE}.
+     * @param kind The kind of record.
+     * @param fromState The id of the state before.
+     * @param toState The id of the state after.
+     * @param runtime The runtime at the time of the record.
+     */
+    public void record(final long time, final int event, final int kind, final int fromState, final int toState, final int runtime) {
+        final long p = position;
+        final int i = (int) (p & mask);
+        nanos[i] = time;
+        from[i] = fromState;
+        to[i] = toState;
+        events[i] = (byte) event;
+        kinds[i] = (byte) kind;
+        runtimes[i] = runtime;
+        position = p + 1;
+    }
+
+    /**
+     * Returns the number of records kept, at most the capacity.
+     *
+     * @return The number of records.
+     */
+    public int size() {
+        return (int) Math.min(position, nanos.length);
+    }
+
+    /**
+     * Returns the number of records kept at most.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return nanos.length;
+    }
+
+    /**
+     * Returns the total number of records written, including overwritten ones.
+     *
+     * @return The number of records written.
+     */
+    public long getWritten() {
+        return position;
+    }
+
+    // accessors for the i-th kept record, oldest first
+
+    public long getNanos(final int i) { return nanos[slot(i)]; }
+    public int getFrom(final int i) { return from[slot(i)]; }
+    public int getTo(final int i) { return to[slot(i)]; }
+    public int getEvent(final int i) { return events[slot(i)]; }
+    public int getKind(final int i) { return kinds[slot(i)]; }
+    public int getRuntime(final int i) { return runtimes[slot(i)]; }
+
+    /**
+     * Renders the kept records, oldest first, one per line.
+     *
+     * @return The readable trace.
+     */
+    public String dump() {
+        final long end = position;
+        final int size = (int) Math.min(end, nanos.length);
+        final var result = new StringBuilder(size * 48);
+        for (long p = end - size; p < end; p++) {
+            final int i = (int) (p & mask);
+            result.append(nanos[i]).append(' ')
+                    .append(EVENT_NAMES[events[i] + 1]).append(' ')
+                    .append(KIND_NAMES[kinds[i]]).append(' ')
+                    .append(from[i]).append("->").append(to[i])
+                    .append(" runtime=").append(runtimes[i]).append('\n');
+        }
+        return result.toString();
+    }
+
+    private int slot(final int i) {
+        final long end = position;
+        final int size = (int) Math.min(end, nanos.length);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("record " + i + " of " + size);
+        }
+        return (int) ((end - size + i) & mask);
+    }
+}
@@ -0,0 +1,143 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.time;
+
+import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.*;
+
+/**
+ * The passive data model of many stopwatches at once, stored column-wise in primitive
+ * arrays so that updating all of them is a single pass over an {@code int[]} that the
+ * JIT can vectorize, instead of one interface call per stopwatch. Runtimes saturate at
+ * 0 and SEC_MAX like those of {@link DefaultTimeModel}. It does not emit any events.
+ */
+public class ColumnarTimeModel {
+
+    private final int[] runtimes;
+
+    /**
+     * The fraction of a second not yet added to each runtime, in nanoseconds,
+     * always at least 0 and less than a second. A second fits into an int, and so does the
+     * sum of a remainder and a fraction of a second, which keeps the advance loop in ints.
+     */
+    private final int[] remainders;
+
+    /**
+     * Creates a model of the given number of stopwatches, all with runtime 0.
+     *
+     * @param size The number of stopwatches.
+     */
+    public ColumnarTimeModel(final int size) {
+        runtimes = new int[size];
+        remainders = new int[size];
+    }
+
+    /**
+     * Returns the number of stopwatches.
+     *
+     * @return The number of stopwatches.
+     */
+    public int size() {
+        return runtimes.length;
+    }
+
+    /**
+     * Returns the runtime of the given stopwatch.
+     *
+     * @param i The stopwatch.
+     * @return The runtime.
+     */
+    public int getRuntime(final int i) {
+        return runtimes[i];
+    }
+
+    /**
+     * Sets the runtime of the given stopwatch.
+     *
+     * @param i The stopwatch.
+     * @param runtime The runtime.
+     */
+    public void setRuntime(final int i, final int runtime) {
+        runtimes[i] = runtime;
+        remainders[i] = 0;
+    }
+
+    /**
+     * Copies all runtimes into the given array.
+     *
+     * @param target The array of at least {@link #size()} elements to copy into.
+     */
+    public void getRuntimes(final int[] target) {
+        System.arraycopy(runtimes, 0, target, 0, runtimes.length);
+    }
+
+    /**
+     * Adds the given number of seconds to all runtimes.
+     *
+     * @param seconds The number of seconds to add, which may be negative.
+     */
+    public void addSeconds(final int seconds) {
+        addSeconds(seconds, 0, runtimes.length);
+    }
+
+    /**
+     * Adds the given number of seconds to the runtimes of the given range of stopwatches.
+     *
+     * @param seconds The number of seconds to add, which may be negative.
+     * @param from The first stopwatch, inclusive.
+     * @param to The last stopwatch, exclusive.
+     */
+    public void addSeconds(final int seconds, final int from, final int to) {
+        // clamping the step keeps the int sums below from overflowing
+        final int step = Math.max(-SEC_MAX, Math.min(SEC_MAX, seconds));
+        final int[] r = runtimes;
+        for (var i = from; i < to; i++) {
+            r[i] = saturate(r[i] + step);
+        }
+    }
+
+    /**
+     * Adds the corresponding number of seconds to each runtime.
+     *
+     * @param seconds The number of seconds to add per stopwatch, which may be negative.
+     */
+    public void addSeconds(final int[] seconds) {
+        final int[] r = runtimes;
+        for (var i = 0; i < r.length; i++) {
+            r[i] = saturate(r[i] + Math.max(-SEC_MAX, Math.min(SEC_MAX, seconds[i])));
+        }
+    }
+
+    /**
+     * Adds the given elapsed time to all runtimes, carrying each stopwatch's
+     * fraction of a second over to the next call.
+     *
+     * @param deltaNanos The elapsed time in nanoseconds, which may be negative.
+     */
+    public void advance(final long deltaNanos) {
+        final int whole = (int) Math.max(-SEC_MAX - 1L, Math.min(SEC_MAX + 1L, deltaNanos / NANOS_PER_SEC));
+        final int fraction = (int) (deltaNanos % NANOS_PER_SEC);
+        final int second = (int) NANOS_PER_SEC;
+        final int[] r = runtimes;
+        final int[] rem = remainders;
+        for (var i = 0; i < r.length; i++) {
+            // the sum lies strictly between minus one and two seconds, so the carry is -1, 0 or 1;
+            // computed from sign masks to keep the loop free of branches
+            final int total = rem[i] + fraction;
+            final int below = total >> 31;
+            final int above = ~((total - second) >> 31);
+            rem[i] = total + (second & below) - (second & above);
+            r[i] = saturate(r[i] + whole + below - above);
+        }
+    }
+
+    /**
+     * Clamps the given runtime to the range from 0 to SEC_MAX. Uses shifts and masks
+     * rather than Math.min and Math.max, which the JIT does not vectorize for ints.
+     *
+     * @param runtime The unclamped runtime, at least -2^30 and at most 2^30.
+     * @return The clamped runtime.
+     */
+    private static int saturate(final int runtime) {
+        final int positive = runtime & ~(runtime >> 31);
+        final int excess = positive - SEC_MAX;
+        return positive - (excess & ~(excess >> 31));
+    }
+}
@@ -0,0 +1,76 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.time;
+
+import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.*;
+
+/**
+ * An implementation of the stopwatch data model.
+ */
+public class DefaultTimeModel implements TimeModel {
+
+    private int runningTime = 0;
+
+    /**
+     * The fraction of a second not yet added to the running time, in nanoseconds,
+     * always at least 0 and less than a second.
+     */
+    private long remainderNanos = 0;
+
+    @Override
+    public void resetRuntime() {
+        runningTime = 0;
+        remainderNanos = 0;
+    }
+
+    @Override
+    public void incRuntime() {
+        runningTime += SEC_PER_TICK;
+    }
+
+    @Override
+    public void decRuntime() {
+        runningTime -= SEC_PER_TICK;
+    }
+
+    @Override
+    public int getRuntime() {
+        return runningTime;
+    }
+
+    @Override
+    public void setRuntime(int runtime) {
+        runningTime = runtime;
+        remainderNanos = 0;
+    }
+
+    @Override
+    public void addSeconds(final int seconds) {
+        runningTime = saturate((long) runningTime + seconds);
+    }
+
+    @Override
+    public void advance(final long deltaNanos) {
+        // split into whole seconds first so that large deltas cannot overflow the sum
+        long total = remainderNanos + deltaNanos % NANOS_PER_SEC;
+        long seconds = deltaNanos / NANOS_PER_SEC;
+        // round toward negative infinity so that the remainder stays non-negative
+        if (total < 0) {
+            total += NANOS_PER_SEC;
+            seconds--;
+        } else if (total >= NANOS_PER_SEC) {
+            total -= NANOS_PER_SEC;
+            seconds++;
+        }
+        remainderNanos = total;
+        runningTime = saturate(runningTime + Math.max(-SEC_MAX - 1L, Math.min(SEC_MAX + 1L, seconds)));
+    }
+
+    /**
+     * Clamps the given runtime to the range from 0 to SEC_MAX.
+     *
+     * @param runtime The unclamped runtime.
+     * @return The clamped runtime.
+     */
+    private static int saturate(final long runtime) {
+        return (int) Math.max(0, Math.min(SEC_MAX, runtime));
+    }
+}
\ No newline at end of file
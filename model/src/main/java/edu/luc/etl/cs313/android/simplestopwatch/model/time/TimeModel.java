@@ -0,0 +1,31 @@
+package edu.luc.etl.cs313.android.simplestopwatch.model.time;
+
+/**
+ * The passive data model of the stopwatch.
+ * It does not emit any events.
+ *
+ * @author laufer
+ */
+public interface TimeModel {
+    void resetRuntime();
+    void incRuntime();
+    void decRuntime();
+    int getRuntime();
+    void setRuntime(int runtime);
+
+    /**
+     * Adds the given number of seconds, which may be negative, to the runtime
+     * in one step, saturating at 0 and {@code SEC_MAX}.
+     *
+     * @param seconds The number of seconds to add.
+     */
+    void addSeconds(int seconds);
+
+    /**
+     * Adds the given elapsed time, which may be negative, to the runtime, saturating
+     * like {@link #addSeconds(int)}. Fractions of a second are carried over to the next call.
+     *
+     * @param deltaNanos The elapsed time in nanoseconds.
+     */
+    void advance(long deltaNanos);
+}
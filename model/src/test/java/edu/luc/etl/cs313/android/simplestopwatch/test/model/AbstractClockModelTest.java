@@ -0,0 +1,143 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.AdjustableClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.AwaitableClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+
+
+/**
+ * Test case superclass for the autonomous clock model abstraction.
+ * Unit-tests the pseudo-real-time behavior of the clock.
+ * Uses a simple stub object to satisfy the clock's dependency.
+ *
+ * @author laufer
+ */
+public abstract class AbstractClockModelTest {
+
+    private ClockModel model;
+
+    /**
+     * Setter for dependency injection. Usually invoked by concrete testcase
+     * subclass.
+     *
+     * @param model
+     */
+    protected void setModel(final ClockModel model) {
+        this.model = model;
+    }
+
+    protected ClockModel getModel() {
+        return model;
+    }
+
+    /**
+     * Verifies that a stopped clock does not emit any tick events.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testStopped() throws InterruptedException {
+        // use a thread-safe object because the timer inside the
+        // clock has its own thread
+        final var i = new AtomicInteger(0);
+        model.setTickListener(i::incrementAndGet);
+        sleep(5500);
+        assertEquals(0, i.get());
+    }
+
+    /**
+     * Verifies that a running clock emits about one tick event per second.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testRunning() throws InterruptedException {
+        final var i = new AtomicInteger(0);
+        model.setTickListener(i::incrementAndGet);
+        model.start();
+        sleep(5500);
+        model.stop();
+        assertEquals(5, i.get());
+    }
+
+    /**
+     * Verifies that stopping and awaiting returns only after the tick being handled,
+     * and that no tick follows.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testStopAndAwait() throws InterruptedException {
+        assumeTrue(model instanceof AwaitableClockModel);
+        final var entered = new CountDownLatch(1);
+        final var handled = new AtomicInteger(0);
+        model.setTickListener(() -> {
+            entered.countDown();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(300));
+            handled.incrementAndGet();
+        });
+        model.start();
+        assertTrue(entered.await(3, TimeUnit.SECONDS));
+        ((AwaitableClockModel) model).stopAndAwait();
+        assertEquals(1, handled.get());
+        sleep(1500);
+        assertEquals(1, handled.get());
+    }
+
+    /**
+     * Verifies that no tick arrives between a stop and the next start
+     * while the clock is restarted many times in quick succession.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testFastRestart() throws InterruptedException {
+        assumeTrue(model instanceof AwaitableClockModel && model instanceof AdjustableClockModel);
+        final var clock = (AwaitableClockModel) model;
+        ((AdjustableClockModel) model).setTickPeriod(1);
+        final var stopped = new AtomicBoolean();
+        final var ticks = new AtomicInteger(0);
+        final var stale = new AtomicInteger(0);
+        model.setTickListener(() -> {
+            if (stopped.get()) {
+                stale.incrementAndGet();
+            }
+            ticks.incrementAndGet();
+        });
+        final var random = new Random(24);
+        for (var i = 0; i < 100; i++) {
+            stopped.set(false);
+            clock.start();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(random.nextInt(20)));
+            clock.stopAndAwait();
+            stopped.set(true);
+        }
+        sleep(50);
+        assertEquals(0, stale.get());
+        assertTrue(ticks.get() > 0);
+    }
+
+    /**
+     * Lets the given amount of time pass for the clock under test.
+     * Clocks driven by real time require the test to actually sleep.
+     *
+     * @param millis The amount of time to pass in milliseconds.
+     * @throws InterruptedException
+     */
+    protected void sleep(final long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
@@ -0,0 +1,519 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.lang.management.ManagementFactory;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TickListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.EventJournal;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.StopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.TransitionTrace;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.TimeModel;
+
+/**
+ * Testcase superclass for the stopwatch state machine model. Unit-tests the state
+ * machine in fast-forward mode by directly triggering successive tick events
+ * without the presence of a pseudo-real-time clock. Uses a single unified mock
+ * object for all dependencies of the state machine model.
+ *
+ * @author laufer
+ * @see http://xunitpatterns.com/Testcase%20Superclass.html
+ */
+public abstract class AbstractStopwatchStateMachineTest {
+
+    /**
+     * The number of records kept in the trace under test.
+     */
+    private static final int TRACE_CAPACITY = 128;
+
+    private StopwatchStateMachine model;
+
+    private UnifiedMockDependency dependency;
+
+    @Before
+    public void setUp() throws Exception {
+        dependency = new UnifiedMockDependency();
+    }
+
+    @After
+    public void tearDown() {
+        dependency = null;
+    }
+
+    /**
+     * Setter for dependency injection. Usually invoked by concrete testcase
+     * subclass.
+     *
+     * @param model The model used for dependency injection.
+     */
+    protected void setModel(final StopwatchStateMachine model) {
+        this.model = model;
+        if (model == null)
+            return;
+        this.model.setModelListener(dependency);
+        this.model.actionInit();
+    }
+
+    protected UnifiedMockDependency getDependency() {
+        return dependency;
+    }
+
+    /**
+     * Verifies that we're initially in the stopped state (and told the listener
+     * about it).
+     */
+    @Test
+    public void testPreconditions() {
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+    }
+
+    /**
+     * Verifies that when runtime reaches 99 in the incrementing state,
+     * the state machine transitions into the running state,
+     * and then after 5 ticks the runtime is 94.
+     *
+     * @author Emil and Ryan
+     * */
+    @Test
+    public void testDecrementStartAt99() {
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+        for (int i = 0; i < 99; i++) {
+            model.onButton();
+        }
+        assertEquals(Constants.STATE_RUNNING, dependency.getState());
+        onTickRepeat(5);
+        assertTimeEquals(94);
+    }
+
+
+    /**
+     * Verifies that when timer reaches 0 during Running state,
+     * the state machine transitions to Alarming.
+     *
+     * @author Chris & Michael
+     */
+    @Test
+    public void testRunningToAlarming() {
+
+        model.onButton();
+        onTickRepeat(3);    // enter Running
+        onTickRepeat(2);    // enter Alarming
+        assertEquals(Constants.STATE_ALARMING, dependency.getState());
+    }
+
+    /**
+     * Verifies that timer stops when Alarming.
+     *
+     * @author Chris & Michael
+     */
+    @Test
+    public void testTimerInAlarming() {
+
+        model.onButton();
+        onTickRepeat(3);    // enter Running
+        onTickRepeat(2);    // enter Alarming
+        assertTimeEquals(0);
+        onTickRepeat(5);
+        assertTimeEquals(0);
+        onTickRepeat(99);
+        assertTimeEquals(0);
+    }
+
+    /**
+     * Verifies that when button is pressed during Alarming,
+     * state machine transitions to Stopped.
+     *
+     * @author Chris & Michael
+     */
+    @Test
+    public void testAlarmingToStopped() {
+
+        model.onButton();
+        onTickRepeat(3);    // enter Running
+        onTickRepeat(2);    // enter Alarming
+        model.onButton();
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+    }
+
+    /**
+     * Verifies that when button is pressed during Running,
+     * state machine transitions to Stopped.
+     *
+     * @author Chris & Michael
+     */
+    @Test
+    public void testRunningToStopped() {
+
+        for (int i=0; i<5; i++){
+            model.onButton();
+        }
+        onTickRepeat(3);    //enter Running
+        model.onButton();
+        assertTimeEquals(0);
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+
+        for (int i=0; i<99; i++){
+            model.onButton();
+        }
+        model.onButton();
+        assertTimeEquals(0);
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+    }
+
+    /**
+     * Verifies the following:
+     * 1. The state machine starts in the stopped state.
+     * 2. Upon pressing the button, the state machine transitions to the incrementing state and increments runtime by 1.
+     * 3. After 5 ticks have passed (3 seconds + 1 second to allow runtime to decrement), the state is alarming.
+     * 4. When in the alarming state, after the button is pressed the runtime is set back to 0 and the state machine is in the stopped state.
+     * 5. After pressing the button, ensures the same tests in steps 2-4 pass in the second cycle of the state machine.
+     *
+     * @author Emil and Ryan
+     * */
+    @Test
+    public void testEdgeCaseOne() {
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+        model.onButton();
+        assertEquals(Constants.STATE_INCREMENTING, dependency.getState());
+        assertTimeEquals(1);
+        onTickRepeat(5);
+        assertEquals(Constants.STATE_ALARMING, dependency.getState());
+        model.onButton();
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+        assertTimeEquals(0);
+        model.onButton();
+        assertTimeEquals(1);
+        onTickRepeat(5);
+        assertEquals(Constants.STATE_ALARMING, dependency.getState());
+        model.onButton();
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+    }
+
+    /**
+     * 1. Timer is set to 7.
+     * 2. Waits 3 seconds.
+     * 3. Confirms timer is still at 7.
+     * 4. Waits 2 more seconds.
+     * 5. Confirms timer is now at 5.
+     *
+     * @author Emil and Ryan
+     * */
+    @Test
+    public void testDecrementStartAtValue() {
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+        for(int i = 0; i < 7; i++) {
+            model.onButton();
+            System.out.println(model.getRuntime());
+        }
+        assertEquals(Constants.STATE_INCREMENTING, dependency.getState());
+        assertTimeEquals(7);
+        onTickRepeat(3);
+        assertEquals(Constants.STATE_RUNNING, dependency.getState());
+        assertTimeEquals(7);
+        onTickRepeat(2);
+        assertTimeEquals(5);
+    }
+
+    /**
+     * Verifies time starts at 0 and when button is pressed 7 times, runtime is 7.
+     *
+     * @author Ryan and Emil
+     * */
+    @Test
+    public void testActivityScenarioInc() {
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+        assertTimeEquals(0);
+        for(int i = 0; i < 7; i++) {
+            model.onButton();
+        }
+        assertTimeEquals(7);
+    }
+
+    /**
+     * Verifies that a time the user enters is read once per button press, so that the
+     * stopwatch runs with the time it checked even if the user clears it meanwhile.
+     */
+    @Test
+    public void testEnteredTimeReadOnce() {
+        dependency.setUserRuntimes(5, Constants.UI_DEFAULT);
+        model.onButton();
+        assertEquals(Constants.STATE_RUNNING, dependency.getState());
+        assertTimeEquals(5);
+        assertEquals(1, dependency.getUserRuntimeReads());
+    }
+
+    /**
+     * Verifies that a backlog of ticks moves an incrementing stopwatch on to running
+     * and counts it down in one step, with a single time update.
+     */
+    @Test
+    public void testBulkTicksIncrementingToRunning() {
+        for (int i = 0; i < 9; i++) {
+            model.onButton();
+        }
+        final int updates = dependency.getTimeUpdates();
+        model.onTicks(7);   // 3 ticks to enter Running, 4 more to count down
+        assertEquals(Constants.STATE_RUNNING, dependency.getState());
+        assertTimeEquals(5);
+        assertEquals(updates + 1, dependency.getTimeUpdates());
+        onTickRepeat(1);
+        assertTimeEquals(4);
+    }
+
+    /**
+     * Verifies that a backlog of ticks longer than the remaining countdown
+     * ends up in the alarming state with the time at 0.
+     */
+    @Test
+    public void testBulkTicksRunOut() {
+        model.onButton();
+        model.onButton();
+        onTickRepeat(3);    // enter Running
+        model.onTicks(100);
+        assertEquals(Constants.STATE_ALARMING, dependency.getState());
+        assertTimeEquals(0);
+        model.onTicks(50);
+        assertEquals(Constants.STATE_ALARMING, dependency.getState());
+        model.onButton();
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+    }
+
+    /**
+     * Verifies that a full cycle of button presses and ticks through all states,
+     * including the view updates and alarms delivered directly to the listener,
+     * allocates nothing on the dispatching thread once the JIT compiler has warmed up.
+     * The first rounds may allocate while it warms up, so the test passes as soon as
+     * one complete round allocates nothing.
+     */
+    @Test
+    public void testNoAllocation() {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var id = Thread.currentThread().getId();
+        var allocated = -1L;
+        for (var round = 0; round < 10 && allocated != 0; round++) {
+            final var start = threads.getThreadAllocatedBytes(id);
+            for (var i = 0; i < 10_000; i++) {
+                model.onButton();
+                model.onButton();   // Incrementing at 2
+                onTickRepeat(Constants.TICK_WAIT + 2); // enter Running and count down to 0
+                onTickRepeat(2);    // Alarming
+                model.onButton();   // Stopped
+            }
+            allocated = threads.getThreadAllocatedBytes(id) - start;
+        }
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+        assertEquals(0, allocated);
+    }
+
+    /**
+     * Verifies that ticks arriving after the button stopped the clock are dropped
+     * instead of reaching the stopped state.
+     */
+    @Test
+    public void testLateTicksDropped() {
+        model.onButton();
+        onTickRepeat(3);    // enter Running
+        model.onButton();
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+        assertFalse(dependency.isStarted());
+        onTickRepeat(2);
+        model.onTicks(5);
+        assertEquals(Constants.STATE_STOPPED, dependency.getState());
+        assertEquals(3, model.getDroppedTicks());
+        model.onButton();
+        assertEquals(Constants.STATE_INCREMENTING, dependency.getState());
+        onTickRepeat(1);
+        assertEquals(3, model.getDroppedTicks());
+    }
+
+    /**
+     * Verifies that stopping the machine stops the clock while keeping its state and runtime,
+     * and that ticks arriving afterwards are dropped.
+     */
+    @Test
+    public void testStopDropsLaterTicks() {
+        model.onButton();
+        model.onButton();
+        onTickRepeat(Constants.TICK_WAIT + 1); // enter Running and count down to 1
+        model.onStop();
+        assertFalse(dependency.isStarted());
+        onTickRepeat(2);
+        model.onTicks(3);
+        assertEquals(Constants.STATE_RUNNING, dependency.getState());
+        assertTimeEquals(1);
+        assertEquals(3, model.getDroppedTicks());
+    }
+
+    /**
+     * Verifies that transitions are traced with their trigger and runtime,
+     * and that the trace keeps only the most recent records.
+     */
+    @Test
+    public void testTransitionsTraced() {
+        assertNull(model.getTrace());
+        final var trace = new TransitionTrace(TRACE_CAPACITY);
+        model.setTrace(trace);
+        model.onButton();     // Stopped -> Incrementing
+        var last = trace.size() - 1;
+        while (trace.getKind(last) != TransitionTrace.KIND_TRANSITION) {
+            last--;
+        }
+        assertEquals(EventJournal.EVENT_BUTTON, trace.getEvent(last));
+        assertEquals(Constants.STATE_STOPPED, trace.getFrom(last));
+        assertEquals(Constants.STATE_INCREMENTING, trace.getTo(last));
+        assertEquals(1, trace.getRuntime(last));
+        onTickRepeat(3);        // -> Running
+        assertEquals(EventJournal.EVENT_TICK, trace.getEvent(trace.size() - 1));
+        assertTrue(trace.dump().contains("tick transition " + Constants.STATE_INCREMENTING + "->" + Constants.STATE_RUNNING));
+        onTickRepeat(TRACE_CAPACITY);
+        assertEquals(trace.getCapacity(), trace.size());
+        assertTrue(trace.getWritten() > trace.getCapacity());
+        for (var i = 1; i < trace.size(); i++) {
+            assertTrue(trace.getNanos(i - 1) <= trace.getNanos(i));
+        }
+        // the countdown from 1 has run out, so the alarm sounds on each tick
+        assertEquals(TransitionTrace.KIND_ALARM, trace.getKind(trace.size() - 1));
+        assertEquals(Constants.STATE_ALARMING, trace.getTo(trace.size() - 1));
+    }
+
+    /**
+     * Sends the given number of tick events to the model.
+     *
+     *  @param n the number of tick events
+     */
+    protected void onTickRepeat(final int n) {
+        for (var i = 0; i < n; i++)
+            model.onTick();
+    }
+
+    /**
+     * Checks whether the model has invoked the expected time-keeping
+     * methods on the mock object.
+     */
+    protected void assertTimeEquals(final int t) {
+        assertEquals(t, dependency.getTime());
+    }
+}
+
+/**
+ * Manually implemented mock object that unifies the three dependencies of the
+ * stopwatch state machine model. The three dependencies correspond to the three
+ * interfaces this mock object implements.
+ *
+ * @author laufer
+ */
+class UnifiedMockDependency implements TimeModel, ClockModel, StopwatchModelListener {
+
+    private int timeValue = -1, stateId = -1;
+
+    private int timeUpdates = 0;
+
+    private int runningTime = 0;
+
+    private boolean started = false;
+
+    private int[] userRuntimes = {};
+
+    private int userRuntimeReads = 0;
+
+    public int getTime() {
+        return timeValue;
+    }
+
+    public int getState() {
+        return stateId;
+    }
+
+    public int getTimeUpdates() {
+        return timeUpdates;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Sets the times the user enters on successive reads; later reads find none entered.
+     */
+    public void setUserRuntimes(final int... userRuntimes) {
+        this.userRuntimes = userRuntimes;
+    }
+
+    public int getUserRuntimeReads() {
+        return userRuntimeReads;
+    }
+
+    @Override
+    public void onTimeUpdate(final int timeValue) {
+        this.timeValue = timeValue;
+        timeUpdates++;
+    }
+
+    @Override
+    public void onStateUpdate(final int stateId) {
+        this.stateId = stateId;
+    }
+
+    @Override
+    public void soundAlarm(int notification_sound) { }
+
+    @Override
+    public void setTickListener(TickListener listener) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void start() {
+        started = true;
+    }
+
+    @Override
+    public void stop() {
+        started = false;
+    }
+
+    @Override
+    public void resetRuntime() { runningTime = 0; }
+
+    @Override
+    public void incRuntime() {
+        runningTime++;
+    }
+
+    @Override
+    public void decRuntime() { runningTime--; }
+
+    @Override
+    public int getRuntime() {
+        return runningTime;
+    }
+
+    @Override
+    public void setRuntime(int runtime) { runningTime = runtime; }
+
+    @Override
+    public void addSeconds(int seconds) {
+        runningTime = Math.max(0, Math.min(Constants.SEC_MAX, runningTime + seconds));
+    }
+
+    @Override
+    public void advance(long deltaNanos) { addSeconds((int) (deltaNanos / Constants.NANOS_PER_SEC)); }
+
+    @Override
+    public int getUserRuntime() {
+        final int read = userRuntimeReads++;
+        return read < userRuntimes.length ? userRuntimes[read] : Constants.UI_DEFAULT;
+    }
+
+}
+
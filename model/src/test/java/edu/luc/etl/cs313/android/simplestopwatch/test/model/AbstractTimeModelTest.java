@@ -1,5 +1,7 @@
 package edu.luc.etl.cs313.android.simplestopwatch.test.model;
 
+import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.NANOS_PER_SEC;
+import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.SEC_MAX;
 import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.SEC_PER_HOUR;
 import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.SEC_PER_MIN;
 import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.SEC_PER_TICK;
@@ -65,4 +67,37 @@ public abstract class AbstractTimeModelTest {
         model.incRuntime();
         assertEquals((rt + SEC_PER_TICK), model.getRuntime());
     }
+
+    /**
+     * Verifies that adding seconds in bulk saturates at 0 and SEC_MAX.
+     */
+    @Test
+    public void testAddSecondsSaturates() {
+        model.addSeconds(7);
+        assertEquals(7, model.getRuntime());
+        model.addSeconds(-3);
+        assertEquals(4, model.getRuntime());
+        model.addSeconds(Integer.MAX_VALUE);
+        assertEquals(SEC_MAX, model.getRuntime());
+        model.addSeconds(Integer.MIN_VALUE);
+        assertEquals(0, model.getRuntime());
+    }
+
+    /**
+     * Verifies that advancing by fractions of a second adds up to whole seconds.
+     */
+    @Test
+    public void testAdvanceCarriesFraction() {
+        model.setRuntime(10);
+        for (var i = 0; i < 5; i++) {
+            model.advance(NANOS_PER_SEC * 6 / 10);
+        }
+        assertEquals(13, model.getRuntime());
+        model.advance(-NANOS_PER_SEC * 25 / 10);
+        assertEquals(10, model.getRuntime());
+        model.advance(Long.MAX_VALUE);
+        assertEquals(SEC_MAX, model.getRuntime());
+        model.advance(Long.MIN_VALUE);
+        assertEquals(0, model.getRuntime());
+    }
 }
@@ -0,0 +1,60 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.NANOS_PER_SEC;
+import static edu.luc.etl.cs313.android.simplestopwatch.common.Constants.SEC_MAX;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.ColumnarTimeModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+
+/**
+ * Testcase for the columnar time model of many stopwatches.
+ */
+public class ColumnarTimeModelTest {
+
+    /**
+     * Verifies that bulk updates saturate per stopwatch and only touch the given range.
+     */
+    @Test
+    public void testAddSeconds() {
+        final var model = new ColumnarTimeModel(5);
+        for (var i = 0; i < model.size(); i++) {
+            model.setRuntime(i, i * 30);
+        }
+        model.addSeconds(-10);
+        final var runtimes = new int[model.size()];
+        model.getRuntimes(runtimes);
+        assertArrayEquals(new int[] { 0, 20, 50, 80, SEC_MAX }, runtimes);
+        model.addSeconds(15, 1, 3);
+        model.getRuntimes(runtimes);
+        assertArrayEquals(new int[] { 0, 35, 65, 80, SEC_MAX }, runtimes);
+        model.addSeconds(new int[] { 1, -100, 0, Integer.MAX_VALUE, Integer.MIN_VALUE });
+        model.getRuntimes(runtimes);
+        assertArrayEquals(new int[] { 1, 0, 65, SEC_MAX, 0 }, runtimes);
+    }
+
+    /**
+     * Verifies that advancing agrees with the default time model for each stopwatch.
+     */
+    @Test
+    public void testAdvanceMatchesDefault() {
+        final var model = new ColumnarTimeModel(3);
+        final var reference = new DefaultTimeModel[model.size()];
+        for (var i = 0; i < model.size(); i++) {
+            model.setRuntime(i, 40 + i);
+            reference[i] = new DefaultTimeModel();
+            reference[i].setRuntime(40 + i);
+        }
+        final long[] deltas = { NANOS_PER_SEC * 3 / 4, -NANOS_PER_SEC / 3, 5 * NANOS_PER_SEC + 1, -2 * NANOS_PER_SEC };
+        for (final var delta : deltas) {
+            model.advance(delta);
+            for (var i = 0; i < model.size(); i++) {
+                reference[i].advance(delta);
+                assertEquals(reference[i].getRuntime(), model.getRuntime(i));
+            }
+        }
+    }
+}
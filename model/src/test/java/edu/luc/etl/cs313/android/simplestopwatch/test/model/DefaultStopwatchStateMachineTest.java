@@ -0,0 +1,127 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.VirtualClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.DefaultStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+
+/**
+ * Concrete testcase subclass for the default stopwatch state machine
+ * implementation.
+ *
+ * @author laufer
+ * @see http://xunitpatterns.com/Testcase%20Superclass.html
+ */
+public class DefaultStopwatchStateMachineTest extends AbstractStopwatchStateMachineTest {
+
+    private DefaultStopwatchStateMachine machine;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        machine = new DefaultStopwatchStateMachine(getDependency(), getDependency());
+        setModel(machine);
+    }
+
+    @After
+    public void tearDown() {
+        setModel(null);
+        machine = null;
+        super.tearDown();
+    }
+
+    /**
+     * Verifies that only actual state changes are reported to the listener,
+     * while self-transitions are counted as suppressed.
+     */
+    @Test
+    public void testSelfTransitionsSuppressed() {
+        machine.onButton();     // Stopped -> Incrementing
+        machine.onButton();     // Incrementing -> Incrementing
+        onTickRepeat(3);        // two self-transitions, then -> Running
+        onTickRepeat(2);        // Running -> Running twice
+        assertEquals(3, machine.getEmittedStateUpdates());
+        assertEquals(5, machine.getSuppressedStateUpdates());
+    }
+
+    /**
+     * Verifies that an adjustable clock only ticks as often as the current state needs:
+     * every second while counting, less often while alarming, and never while stopped.
+     */
+    @Test
+    public void testTickPeriodFollowsState() {
+        final var clock = new VirtualClockModel();
+        final var adaptive = new DefaultStopwatchStateMachine(new DefaultTimeModel(), clock);
+        final var state = new AtomicInteger(0);
+        final var alarms = new AtomicInteger(0);
+        adaptive.setModelListener(new StopwatchModelListener() {
+            @Override public void onTimeUpdate(final int timeValue) { }
+            @Override public void onStateUpdate(final int stateId) { state.set(stateId); }
+            @Override public void soundAlarm(final int notification_sound) { alarms.incrementAndGet(); }
+            @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+        });
+        clock.setTickListener(adaptive);
+        adaptive.actionInit();
+        adaptive.onButton();                                // Stopped -> Incrementing with runtime 1
+        clock.advance(Constants.TICK_WAIT * Constants.TICK_PERIOD_MILLIS);
+        assertEquals(Constants.STATE_RUNNING, state.get());
+        assertEquals(1, alarms.get());                      // beep on starting to run
+        clock.advance(2 * Constants.TICK_PERIOD_MILLIS);    // 1 -> 0, then -> Alarming
+        assertEquals(Constants.STATE_ALARMING, state.get());
+        clock.advance(Constants.ALARM_PERIOD_MILLIS - 1);
+        assertEquals(1, alarms.get());
+        clock.advance(1);
+        assertEquals(2, alarms.get());
+        clock.advance(Constants.ALARM_PERIOD_MILLIS);
+        assertEquals(3, alarms.get());
+        adaptive.onButton();                                // Alarming -> Stopped
+        clock.advance(10 * Constants.ALARM_PERIOD_MILLIS);
+        assertEquals(Constants.STATE_STOPPED, state.get());
+        assertEquals(3, alarms.get());
+    }
+
+    /**
+     * Verifies that with a clock providing timeouts, Incrementing state waits exactly
+     * TICK_WAIT seconds after the last button press, without any ticks meanwhile.
+     */
+    @Test
+    public void testIncrementingWaitsForDeadline() {
+        final var clock = new VirtualClockModel();
+        final var timed = new DefaultStopwatchStateMachine(new DefaultTimeModel(), clock);
+        final var state = new AtomicInteger(0);
+        timed.setModelListener(new StopwatchModelListener() {
+            @Override public void onTimeUpdate(final int timeValue) { }
+            @Override public void onStateUpdate(final int stateId) { state.set(stateId); }
+            @Override public void soundAlarm(final int notification_sound) { }
+            @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+        });
+        final var ticks = new AtomicInteger(0);
+        clock.setTickListener(() -> {
+            ticks.incrementAndGet();
+            timed.onTick();
+        });
+        timed.actionInit();
+        timed.onButton();                                   // Stopped -> Incrementing
+        clock.advance(2500);
+        timed.onButton();                                   // re-arms the deadline
+        final var wait = Constants.TICK_WAIT * Constants.TICK_PERIOD_MILLIS;
+        clock.advance(wait - 1);
+        assertEquals(Constants.STATE_INCREMENTING, state.get());
+        assertEquals(0, ticks.get());
+        clock.advance(1);
+        assertEquals(Constants.STATE_RUNNING, state.get());
+        assertEquals(2, timed.getRuntime());
+        clock.advance(Constants.TICK_PERIOD_MILLIS);
+        assertEquals(1, ticks.get());
+        assertEquals(1, timed.getRuntime());
+    }
+}
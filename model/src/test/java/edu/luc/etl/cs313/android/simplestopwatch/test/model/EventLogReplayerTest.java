@@ -0,0 +1,139 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.model.replay.EventLogReplayer;
+import edu.luc.etl.cs313.android.simplestopwatch.model.replay.EventLogWriter;
+import edu.luc.etl.cs313.android.simplestopwatch.model.replay.ReplayResult;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.DefaultStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.TableStopwatchStateMachine;
+
+/**
+ * Testcase for replaying recorded event logs through the state machine implementations.
+ */
+public class EventLogReplayerTest {
+
+    private final EventLogReplayer defaultReplayer = new EventLogReplayer(DefaultStopwatchStateMachine::new);
+
+    private final EventLogReplayer tableReplayer = new EventLogReplayer(TableStopwatchStateMachine::new);
+
+    /**
+     * Verifies that an entered time runs down to the alarm and a press stops the stopwatch,
+     * with the ticks recorded before the start dropped.
+     */
+    @Test
+    public void testEnteredTimeRunsOut() {
+        final var log = new EventLogWriter()
+                .tick(500)
+                .enterTime(1000, 3)
+                .button(1200)
+                .tick(2200).tick(3200)
+                .ticks(5200, 2)
+                .tick(8200)
+                .button(9000)
+                .toByteArray();
+        final var result = defaultReplayer.replay(log);
+        assertEquals(8, result.getEvents());
+        assertEquals(1, result.getDroppedTicks());
+        assertEquals(Constants.STATE_STOPPED, result.getState());
+        assertEquals(0, result.getRuntime());
+        // the start and the tick while alarming
+        assertEquals(2, result.getAlarms());
+    }
+
+    /**
+     * Verifies that the wait in Incrementing state ends on the time line of the log.
+     */
+    @Test
+    public void testTimeoutExpiresBetweenEvents() {
+        final var writer = new EventLogWriter().button(0).button(2000);
+        final var waiting = defaultReplayer.replay(writer.toByteArray());
+        assertEquals(Constants.STATE_INCREMENTING, waiting.getState());
+        assertEquals(2, waiting.getRuntime());
+        final var running = defaultReplayer.replay(writer.tick(2000 + 3 * Constants.TICK_PERIOD_MILLIS).toByteArray());
+        assertEquals(Constants.STATE_RUNNING, running.getState());
+        assertEquals(1, running.getRuntime());
+        assertEquals(1, running.getAlarms());
+    }
+
+    /**
+     * Verifies that both implementations agree on many random sessions stored back to back,
+     * and that the checksum tells different sessions apart.
+     */
+    @Test
+    public void testImplementationsAgree() {
+        final var random = new Random(42);
+        final var sessions = new byte[500][];
+        var size = 0;
+        for (var i = 0; i < sessions.length; i++) {
+            sessions[i] = randomSession(random);
+            size += sessions[i].length;
+        }
+        final var all = new byte[size];
+        var offset = 0;
+        for (final byte[] session : sessions) {
+            System.arraycopy(session, 0, all, offset, session.length);
+            offset += session.length;
+        }
+        offset = 0;
+        for (final byte[] session : sessions) {
+            final ReplayResult expected = defaultReplayer.replay(session);
+            assertEquals(expected, tableReplayer.replay(all, offset, session.length));
+            offset += session.length;
+        }
+        assertNotEquals(defaultReplayer.replay(sessions[0]).getChecksum(),
+                defaultReplayer.replay(sessions[1]).getChecksum());
+    }
+
+    /**
+     * Verifies that a log with a wrong header or cut off in the middle of an event is rejected.
+     */
+    @Test
+    public void testMalformedLog() {
+        final var log = new EventLogWriter().enterTime(0, Constants.UI_DEFAULT).button(100).toByteArray();
+        assertEquals(Constants.STATE_INCREMENTING, defaultReplayer.replay(log).getState());
+        final var header = log.clone();
+        header[0] ^= 1;
+        assertRejected(header);
+        assertRejected(Arrays.copyOf(log, 6));
+    }
+
+    private void assertRejected(final byte[] log) {
+        try {
+            defaultReplayer.replay(log);
+            throw new AssertionError("accepted a malformed log");
+        } catch (final IllegalArgumentException expected) {
+            // the log is malformed
+        }
+    }
+
+    /**
+     * Generates a session of presses, ticks, bursts of ticks and entered times.
+     */
+    private static byte[] randomSession(final Random random) {
+        final var writer = new EventLogWriter();
+        long now = 0;
+        final var events = 20 + random.nextInt(200);
+        for (var i = 0; i < events; i++) {
+            now += random.nextInt(1500);
+            final var kind = random.nextInt(10);
+            if (kind < 2) {
+                writer.button(now);
+            } else if (kind < 8) {
+                writer.tick(now);
+            } else if (kind < 9) {
+                writer.ticks(now, 1 + random.nextInt(20));
+            } else {
+                writer.enterTime(now, random.nextBoolean() ? Constants.UI_DEFAULT : random.nextInt(Constants.SEC_MAX + 1));
+            }
+        }
+        return writer.toByteArray();
+    }
+}
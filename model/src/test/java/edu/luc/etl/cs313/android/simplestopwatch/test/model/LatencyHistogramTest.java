@@ -0,0 +1,107 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockMetrics;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.LatencyHistogram;
+
+/**
+ * Testcase for the latency histogram and the clock metrics built on it.
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Verifies that small values are recorded exactly and percentiles are within the bucket precision.
+     */
+    @Test
+    public void testPercentiles() {
+        final var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getP50());
+        for (var i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000_000L, histogram.getMax());
+        assertWithin(500_000_000L, histogram.getP50());
+        assertWithin(990_000_000L, histogram.getP99());
+        assertEquals(1_000_000_000L, histogram.getValueAtPercentile(100));
+        final var small = new LatencyHistogram();
+        small.record(7);
+        small.record(-3);
+        assertEquals(0, small.getValueAtPercentile(50));
+        assertEquals(7, small.getValueAtPercentile(100));
+    }
+
+    /**
+     * Verifies that a snapshot is unaffected by later recording and reset.
+     */
+    @Test
+    public void testSnapshotAndReset() {
+        final var metrics = new ClockMetrics();
+        metrics.recordTick(5_000_000, 100, 1_000_000_000);
+        metrics.recordTick(1_500_000_000, 100, 1_000_000_000);
+        metrics.recordFailure();
+        final var snapshot = metrics.snapshot();
+        metrics.reset();
+        metrics.recordTick(1, 1, 1_000_000_000);
+        assertEquals(1, snapshot.getMissedTicks());
+        assertEquals(1, snapshot.getFailedTicks());
+        assertEquals(2, snapshot.getLateness().getCount());
+        assertWithin(1_500_000_000L, snapshot.getLateness().getMax());
+        assertEquals(0, metrics.getMissedTicks());
+        assertEquals(0, metrics.getFailedTicks());
+        assertEquals(1, metrics.getLateness().getCount());
+        assertEquals(1, metrics.getLateness().getMax());
+    }
+
+    /**
+     * Verifies that a tick delayed by a stall of several periods counts every period it missed.
+     */
+    @Test
+    public void testMissedTicksAcrossStall() {
+        final var metrics = new ClockMetrics();
+        final long period = 1_000_000_000;
+        metrics.recordTick(period / 2, 100, period);
+        assertEquals(0, metrics.getMissedTicks());
+        metrics.recordTick(period, 100, period);
+        assertEquals(1, metrics.getMissedTicks());
+        metrics.recordTick(3 * period + period / 2, 100, period);
+        assertEquals(4, metrics.getMissedTicks());
+        metrics.recordTick(5 * period, 100, 0);
+        assertEquals(4, metrics.getMissedTicks());
+    }
+
+    /**
+     * Verifies that no values are lost when recording from several threads at once.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final var histogram = new LatencyHistogram();
+        final var threads = new Thread[4];
+        for (var t = 0; t < threads.length; t++) {
+            final long base = t;
+            threads[t] = new Thread(() -> {
+                for (var i = 0; i < 100_000; i++) {
+                    histogram.record(base * 1000 + i % 1000);
+                }
+            });
+            threads[t].start();
+        }
+        for (final var thread : threads) {
+            thread.join();
+        }
+        assertEquals(400_000, histogram.getCount());
+        assertEquals(3999, histogram.getMax());
+        assertEquals(3999, histogram.getValueAtPercentile(100));
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        assertTrue(actual + " not within 4% of " + expected,
+                Math.abs(actual - expected) <= expected / 25);
+    }
+}
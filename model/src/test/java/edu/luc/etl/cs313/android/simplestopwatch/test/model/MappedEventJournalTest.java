@@ -0,0 +1,166 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.VirtualClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.journal.MappedEventJournal;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.DefaultStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.EventJournal;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+
+/**
+ * Testcase for journaling the stopwatch state and restoring it after a restart.
+ */
+public class MappedEventJournalTest {
+
+    private File file;
+
+    private ScheduledExecutorService flusher;
+
+    private int state;
+
+    private int time;
+
+    private final StopwatchModelListener listener = new StopwatchModelListener() {
+        @Override public void onTimeUpdate(final int timeValue) { time = timeValue; }
+        @Override public void onStateUpdate(final int stateId) { state = stateId; }
+        @Override public void soundAlarm(final int notification_sound) { }
+        @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+    };
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("stopwatch", ".journal");
+        file.delete();
+        flusher = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @After
+    public void tearDown() {
+        flusher.shutdownNow();
+        file.delete();
+    }
+
+    private DefaultStopwatchStateMachine newMachine(final VirtualClockModel clock) {
+        final var machine = new DefaultStopwatchStateMachine(new DefaultTimeModel(), clock);
+        clock.setTickListener(machine);
+        machine.setModelListener(listener);
+        return machine;
+    }
+
+    /**
+     * Verifies that a fresh journal has no state and that a running countdown
+     * is restored after reopening, less the time that passed in between.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testRestoreRunning() throws IOException {
+        var journal = new MappedEventJournal(file, 8, flusher, 100);
+        assertFalse(journal.hasState());
+        final var clock = new VirtualClockModel();
+        final var machine = newMachine(clock);
+        machine.setJournal(journal);
+        machine.actionInit();
+        for (var i = 0; i < 10; i++) {
+            machine.onButton();
+        }
+        clock.advance(5000);        // 3 seconds incrementing, then 2 seconds running
+        assertEquals(Constants.STATE_RUNNING, state);
+        assertEquals(8, time);
+        // more records than the capacity were written, so the journal was compacted
+        final long written = journal.getWallTime();
+        // no close: the process dies
+
+        journal = new MappedEventJournal(file, 8, flusher, 100);
+        assertTrue(journal.hasState());
+        assertEquals(EventJournal.STATE_RUNNING, journal.getState());
+        assertEquals(8, journal.getRuntime());
+        assertEquals(written, journal.getWallTime());
+        final var restored = newMachine(new VirtualClockModel());
+        restored.setJournal(journal);
+        journal.restoreInto(restored, written + 3500);
+        assertEquals(Constants.STATE_RUNNING, state);
+        assertEquals(5, time);
+        journal.close();
+    }
+
+    /**
+     * Verifies that the time elapsed while the process was gone moves an incrementing
+     * stopwatch on to running, and a countdown that ran out on to alarming.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testRestoreElapsed() throws IOException {
+        var journal = new MappedEventJournal(file, 8, flusher, 100);
+        journal.record(EventJournal.EVENT_BUTTON, EventJournal.STATE_INCREMENTING, 6);
+        final long written = journal.getWallTime();
+        journal.close();
+
+        journal = new MappedEventJournal(file, 8, flusher, 100);
+        journal.restoreInto(newMachine(new VirtualClockModel()), written + 1000);
+        assertEquals(Constants.STATE_INCREMENTING, state);
+        assertEquals(6, time);
+        journal.restoreInto(newMachine(new VirtualClockModel()), written + 5000);
+        assertEquals(Constants.STATE_RUNNING, state);
+        assertEquals(4, time);
+        journal.restoreInto(newMachine(new VirtualClockModel()), written + 60_000);
+        assertEquals(Constants.STATE_ALARMING, state);
+        assertEquals(0, time);
+        journal.close();
+    }
+
+    /**
+     * Verifies that a restored wait in the incrementing state lasts only for what remains
+     * of it, and that a restored countdown keeps the part of a second since its last tick.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testRestoreRemainingWaitAndPhase() throws IOException {
+        var journal = new MappedEventJournal(file, 8, flusher, 100);
+        journal.record(EventJournal.EVENT_BUTTON, EventJournal.STATE_INCREMENTING, 6);
+        long written = journal.getWallTime();
+        journal.close();
+
+        journal = new MappedEventJournal(file, 8, flusher, 100);
+        var clock = new VirtualClockModel();
+        journal.restoreInto(newMachine(clock), written + 1800);
+        clock.advance(1199);
+        assertEquals(Constants.STATE_INCREMENTING, state);
+        clock.advance(1);
+        assertEquals(Constants.STATE_RUNNING, state);
+        assertEquals(6, time);
+        journal.close();
+        file.delete();
+
+        journal = new MappedEventJournal(file, 8, flusher, 100);
+        journal.record(EventJournal.EVENT_TICK, EventJournal.STATE_RUNNING, 8);
+        written = journal.getWallTime();
+        journal.close();
+
+        journal = new MappedEventJournal(file, 8, flusher, 100);
+        clock = new VirtualClockModel();
+        journal.restoreInto(newMachine(clock), written + 3700);
+        assertEquals(5, time);
+        clock.advance(299);
+        assertEquals(5, time);
+        clock.advance(1);
+        assertEquals(4, time);
+        journal.close();
+    }
+}
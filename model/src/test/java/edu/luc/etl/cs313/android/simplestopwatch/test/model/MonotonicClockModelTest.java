@@ -0,0 +1,138 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.MonotonicClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TickListener;
+
+/**
+ * Concrete testcase subclass for the monotonic clock model implementation.
+ *
+ * @see http://xunitpatterns.com/Testcase%20Superclass.html
+ */
+public class MonotonicClockModelTest extends AbstractClockModelTest {
+
+    @Before
+    public void setUp() throws Exception {
+        setModel(new MonotonicClockModel());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        setModel(null);
+    }
+
+    /**
+     * Verifies that the partial second elapsed before a stop counts toward the next tick.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testPartialSecondCarriedOver() throws InterruptedException {
+        final var i = new AtomicInteger(0);
+        getModel().setTickListener(i::incrementAndGet);
+        getModel().start();
+        Thread.sleep(600);
+        getModel().stop();
+        assertEquals(0, i.get());
+        getModel().start();
+        Thread.sleep(600);
+        getModel().stop();
+        assertEquals(1, i.get());
+    }
+
+    /**
+     * Verifies that the ticks that became due while the listener was stalled
+     * are delivered in one call rather than as a burst.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testBacklogCoalesced() throws InterruptedException {
+        final var ticks = new AtomicInteger(0);
+        final var calls = new AtomicInteger(0);
+        getModel().setTickListener(new TickListener() {
+            @Override public void onTick() {
+                onTicks(1);
+            }
+            @Override public void onTicks(final int n) {
+                ticks.addAndGet(n);
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        Thread.sleep(2500);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+        getModel().start();
+        Thread.sleep(4500);
+        getModel().stop();
+        // one tick at 1 s stalls until 3.5 s, two due ticks then, one more at 4 s
+        assertEquals(4, ticks.get());
+        assertEquals(3, calls.get());
+    }
+
+    /**
+     * Verifies that each tick is recorded in the clock metrics with its handler duration.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testMetricsRecorded() throws InterruptedException {
+        final var clock = (MonotonicClockModel) getModel();
+        clock.setTickListener(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        clock.start();
+        Thread.sleep(2500);
+        clock.stop();
+        final var metrics = clock.getMetrics().snapshot();
+        assertEquals(2, metrics.getLateness().getCount());
+        assertEquals(0, metrics.getMissedTicks());
+        assertTrue(metrics.getHandlerDuration().getP50() >= TimeUnit.MILLISECONDS.toNanos(19));
+        assertTrue(metrics.getLateness().getMax() < TimeUnit.MILLISECONDS.toNanos(500));
+        clock.getMetrics().reset();
+        assertEquals(0, clock.getMetrics().getLateness().getCount());
+    }
+
+    /**
+     * Verifies that a timeout fires once, no earlier than its deadline, and that
+     * re-arming replaces the pending timeout while canceling suppresses it.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testTimeoutFiresOnce() throws InterruptedException {
+        final var clock = (MonotonicClockModel) getModel();
+        final var fired = new AtomicInteger(0);
+        final var armed = System.nanoTime();
+        final var at = new long[1];
+        clock.armTimeout(TimeUnit.MILLISECONDS.toNanos(100), fired::incrementAndGet);
+        clock.armTimeout(TimeUnit.MILLISECONDS.toNanos(200), () -> {
+            at[0] = System.nanoTime();
+            fired.incrementAndGet();
+        });
+        Thread.sleep(400);
+        assertEquals(1, fired.get());
+        assertTrue(at[0] - armed >= TimeUnit.MILLISECONDS.toNanos(200));
+        clock.armTimeout(TimeUnit.MILLISECONDS.toNanos(100), fired::incrementAndGet);
+        clock.cancelTimeout();
+        Thread.sleep(200);
+        assertEquals(1, fired.get());
+    }
+}
@@ -0,0 +1,24 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import org.junit.After;
+import org.junit.Before;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ScheduledClockModel;
+
+/**
+ * Concrete testcase subclass for the shared scheduler clock model implementation.
+ *
+ * @see http://xunitpatterns.com/Testcase%20Superclass.html
+ */
+public class ScheduledClockModelTest extends AbstractClockModelTest {
+
+    @Before
+    public void setUp() throws Exception {
+        setModel(new ScheduledClockModel());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        setModel(null);
+    }
+}
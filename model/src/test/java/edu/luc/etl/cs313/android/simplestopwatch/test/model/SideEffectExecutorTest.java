@@ -0,0 +1,118 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.ConcreteStopwatchModelFacade;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.MonotonicClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.VirtualClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.DefaultStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.SideEffectExecutor;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+
+/**
+ * Testcase for running the side effects of the state machine off the dispatching thread.
+ */
+public class SideEffectExecutorTest {
+
+    private static final int PRESSES = 10;
+
+    private static final long LISTENER_DELAY = 20;
+
+    /**
+     * Verifies that a slow listener neither delays the dispatch of button presses
+     * nor sees the time updates out of order, and that the backlog shows up in the metrics.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testSlowListenerOffDispatchThread() throws InterruptedException {
+        final var effects = new SideEffectExecutor(PRESSES);
+        final var times = new CopyOnWriteArrayList<Integer>();
+        final var done = new CountDownLatch(PRESSES + 1);
+        final var machine = new DefaultStopwatchStateMachine(new DefaultTimeModel(), new VirtualClockModel(), effects);
+        machine.setModelListener(new StopwatchModelListener() {
+            @Override public void onTimeUpdate(final int timeValue) {
+                try {
+                    Thread.sleep(LISTENER_DELAY);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                times.add(timeValue);
+                done.countDown();
+            }
+            @Override public void onStateUpdate(final int stateId) { }
+            @Override public void soundAlarm(final int notification_sound) { }
+            @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+        });
+        final var start = System.nanoTime();
+        machine.actionInit();
+        for (var i = 0; i < PRESSES; i++) {
+            machine.onButton();
+        }
+        final var dispatch = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(dispatch < PRESSES * LISTENER_DELAY / 2);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10), times);
+        assertTrue(effects.getMaxQueueDepth() > 1);
+        assertTrue(effects.getMaxLatencyNanos() >= TimeUnit.MILLISECONDS.toNanos(LISTENER_DELAY));
+    }
+
+    /**
+     * Verifies that flushing waits for the effects submitted before, that closing runs
+     * the effects still queued, and that effects submitted afterwards are dropped and counted.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testFlushAndClose() throws InterruptedException {
+        final var effects = new SideEffectExecutor(PRESSES);
+        final var ran = new CopyOnWriteArrayList<Integer>();
+        effects.execute(() -> {
+            try {
+                Thread.sleep(LISTENER_DELAY);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ran.add(1);
+        });
+        effects.flush();
+        assertEquals(List.of(1), ran);
+        effects.execute(() -> ran.add(2));
+        effects.execute(() -> ran.add(3));
+        effects.close();
+        assertEquals(List.of(1, 2, 3), ran);
+        effects.execute(() -> ran.add(4));
+        effects.flush();
+        assertEquals(List.of(1, 2, 3), ran);
+        assertEquals(1, effects.getDropped());
+    }
+
+    /**
+     * Verifies that the facade exposes the metrics of its clock and effect executor,
+     * and that stopping the facade closes the executor.
+     */
+    @Test
+    public void testFacadeMetrics() {
+        final var effects = new SideEffectExecutor(PRESSES);
+        final var facade = new ConcreteStopwatchModelFacade(MonotonicClockModel::new, effects);
+        assertNotNull(facade.getClockMetrics());
+        assertSame(effects, facade.getEffectExecutor());
+        assertNull(new ConcreteStopwatchModelFacade().getEffectExecutor());
+        facade.stop();
+        effects.execute(() -> { });
+        assertEquals(1, facade.getEffectExecutor().getDropped());
+    }
+}
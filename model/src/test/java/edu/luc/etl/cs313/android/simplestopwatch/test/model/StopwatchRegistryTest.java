@@ -0,0 +1,98 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.StopwatchModelFacade;
+import edu.luc.etl.cs313.android.simplestopwatch.model.StopwatchRegistry;
+
+/**
+ * Testcase for hosting many stopwatches on a single timing wheel.
+ */
+public class StopwatchRegistryTest {
+
+    private static final int N = 10_000;
+
+    /**
+     * Verifies that many stopwatches all leave the incrementing state on time
+     * without creating a thread per stopwatch.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testManyStopwatchesOnOneWheel() throws InterruptedException {
+        final var registry = new StopwatchRegistry();
+        final var running = new AtomicInteger(0);
+        final var stopwatches = new StopwatchModelFacade[N];
+        for (var i = 0; i < N; i++) {
+            stopwatches[i] = registry.create(new StopwatchModelListener() {
+                @Override public void onTimeUpdate(final int timeValue) { }
+                @Override public void onStateUpdate(final int stateId) {
+                    if (stateId == Constants.STATE_RUNNING) {
+                        running.incrementAndGet();
+                    }
+                }
+                @Override public void soundAlarm(final int notification_sound) { }
+                @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+            });
+        }
+        final var threads = Thread.activeCount();
+        for (final var stopwatch : stopwatches) {
+            stopwatch.onButton();
+            stopwatch.onButton();
+        }
+        assertEquals(N, registry.size());
+        // each second press replaces the pending timeout, which the wheel drops on its next step
+        Thread.sleep(100);
+        assertEquals(N, registry.getRunningClocks());
+        Thread.sleep(3400);
+        assertEquals(N, running.get());
+        assertTrue(Thread.activeCount() <= threads + 1);
+        registry.close();
+        assertEquals(0, registry.size());
+        assertEquals(0, registry.getRunningClocks());
+    }
+
+    /**
+     * Verifies that removing a stopwatch cancels its timers on the wheel,
+     * and that closing the registry removes the rest.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testRemoveAndClose() throws InterruptedException {
+        final var registry = new StopwatchRegistry();
+        final var updates = new AtomicInteger(0);
+        final var stopwatches = new StopwatchModelFacade[100];
+        for (var i = 0; i < stopwatches.length; i++) {
+            stopwatches[i] = registry.create(new StopwatchModelListener() {
+                @Override public void onTimeUpdate(final int timeValue) { updates.incrementAndGet(); }
+                @Override public void onStateUpdate(final int stateId) { updates.incrementAndGet(); }
+                @Override public void soundAlarm(final int notification_sound) { }
+                @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+            });
+            stopwatches[i].onButton();      // -> Incrementing, waiting for its timeout
+        }
+        for (var i = 0; i < stopwatches.length / 2; i++) {
+            assertTrue(registry.remove(stopwatches[i]));
+        }
+        assertFalse(registry.remove(stopwatches[0]));
+        assertEquals(stopwatches.length / 2, registry.size());
+        // canceled timers leave the wheel on its next step
+        Thread.sleep(100);
+        assertEquals(stopwatches.length / 2, registry.getRunningClocks());
+        registry.close();
+        assertEquals(0, registry.size());
+        assertEquals(0, registry.getRunningClocks());
+        final int closed = updates.get();
+        Thread.sleep(3500);
+        assertEquals(closed, updates.get());
+    }
+}
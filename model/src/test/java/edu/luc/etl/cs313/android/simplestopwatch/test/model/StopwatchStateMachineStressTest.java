@@ -0,0 +1,336 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.ClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TickListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.DefaultStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.EventJournal;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.StopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.StopwatchStateMachineFactory;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.TableStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+
+/**
+ * Stress test for the state machine implementations, with button presses from one
+ * UI thread and ticks from several timer threads in random interleavings. Every handled
+ * event is checked through the journal: the runtime stays within its bounds, each
+ * transition is one the stopwatch allows, and no event is lost or handled twice.
+ * Further tests restore the state from the UI thread while ticks are being delivered.
+ * Reports the throughput of each run in events per second.
+ */
+@RunWith(Parameterized.class)
+public class StopwatchStateMachineStressTest {
+
+    private static final int ROUNDS = 4;
+
+    private static final int TIMER_THREADS = 3;
+
+    private static final int PRESSES = 4_000;
+
+    private static final int TICKS_PER_THREAD = 40_000;
+
+    private static final int RESTORED_RUNTIME = Constants.SEC_MAX / 2;
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> machines() {
+        return Arrays.asList(new Object[][] {
+                { "default", (StopwatchStateMachineFactory) DefaultStopwatchStateMachine::new },
+                { "table", (StopwatchStateMachineFactory) TableStopwatchStateMachine::new },
+        });
+    }
+
+    private final String name;
+
+    private final StopwatchStateMachineFactory factory;
+
+    public StopwatchStateMachineStressTest(final String name, final StopwatchStateMachineFactory factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * Verifies the invariants under concurrent button presses and ticks, over several random seeds.
+     */
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final var seeds = new Random(313);
+        for (var round = 0; round < ROUNDS; round++) {
+            runRound(seeds.nextLong(), false);
+        }
+    }
+
+    /**
+     * Verifies the invariants when the state is restored while ticks are being delivered,
+     * so that no tick is handled halfway through a restore.
+     */
+    @Test
+    public void testRestoreDuringTicks() throws InterruptedException {
+        final var seeds = new Random(315);
+        for (var round = 0; round < ROUNDS; round++) {
+            runRound(seeds.nextLong(), true);
+        }
+    }
+
+    /**
+     * Verifies that a restore requested while a tick is being handled waits for that tick
+     * instead of interleaving with it, and is then applied in full.
+     */
+    @Test
+    public void testRestoreWhileTickHandled() throws InterruptedException {
+        final var listener = new HoldingListener();
+        final var events = new CopyOnWriteArrayList<Integer>();
+        final StopwatchStateMachine machine = factory.create(new DefaultTimeModel(), new FlagClock());
+        machine.setModelListener(listener);
+        machine.actionInit();
+        machine.restore(EventJournal.STATE_RUNNING, 10);
+        machine.setJournal((event, state, runtime) -> events.add(event));
+
+        final var timer = new Thread(machine::onTick);
+        listener.holder = timer;
+        timer.start();
+        assertTrue(listener.held.await(5, TimeUnit.SECONDS));
+        machine.restore(EventJournal.STATE_STOPPED, 5);
+        listener.released.countDown();
+        timer.join(5000);
+
+        assertEquals(List.of(EventJournal.EVENT_TICK, EventJournal.EVENT_RESTORE), events);
+        assertEquals(Constants.STATE_STOPPED, listener.state);
+        assertEquals(5, listener.time);
+        assertEquals(5, machine.getRuntime());
+    }
+
+    private void runRound(final long seed, final boolean restoring) throws InterruptedException {
+        final var clock = new FlagClock();
+        final var journal = new CheckingJournal();
+        final var listener = new StateListener();
+        final StopwatchStateMachine machine = factory.create(new DefaultTimeModel(), clock);
+        machine.setModelListener(listener);
+        machine.actionInit();
+        machine.setJournal(journal);
+
+        final var failure = new AtomicReference<Throwable>();
+        final var tickEvents = new AtomicLong();
+        final var start = new CountDownLatch(1);
+        final var threads = new Thread[TIMER_THREADS + 1];
+        final var ui = new Random(seed);
+        threads[0] = new Thread(() -> produce(start, failure, ui, PRESSES, restoring
+                ? () -> machine.restore(ui.nextBoolean() ? EventJournal.STATE_RUNNING : EventJournal.STATE_STOPPED,
+                        RESTORED_RUNTIME)
+                : () -> machine.onButton()));
+        for (var i = 1; i < threads.length; i++) {
+            final var random = new Random(seed + i);
+            threads[i] = new Thread(() -> produce(start, failure, random, TICKS_PER_THREAD, () -> {
+                // now and then a backlog of ticks arrives at once
+                if (random.nextInt(64) == 0) {
+                    machine.onTicks(2 + random.nextInt(8));
+                } else {
+                    machine.onTick();
+                }
+                tickEvents.incrementAndGet();
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        final long began = System.nanoTime();
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final long nanos = System.nanoTime() - began;
+
+        assertNull("seed " + seed, failure.get());
+        assertNull("seed " + seed, journal.violation);
+        assertEquals("lost button presses, seed " + seed, restoring ? 0 : PRESSES, journal.buttons);
+        assertEquals("lost restores, seed " + seed, restoring ? PRESSES : 0, journal.restores);
+        assertEquals("lost ticks, seed " + seed, tickEvents.get(), journal.ticks + machine.getDroppedTicks());
+        assertEquals("lost state update, seed " + seed, journal.state, listener.state);
+        final long events = PRESSES + tickEvents.get();
+        System.out.printf("%s %s stress: %,d events, %,d ticks dropped, %,.0f events/s%n",
+                name, restoring ? "restore" : "button", events, machine.getDroppedTicks(), events * 1e9 / nanos);
+    }
+
+    /**
+     * Sends the given number of events once started, pausing at random in between to vary the interleavings.
+     */
+    private static void produce(final CountDownLatch start, final AtomicReference<Throwable> failure,
+            final Random random, final int count, final Runnable event) {
+        try {
+            start.await();
+            for (var i = 0; i < count; i++) {
+                event.run();
+                if (random.nextInt(16) == 0) {
+                    Thread.yield();
+                }
+            }
+        } catch (final Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * The states each event may lead to from each state, as bitmasks indexed by state id.
+     */
+    private static final int[] BUTTON_NEXT = new int[4], TICK_NEXT = new int[4];
+
+    static {
+        BUTTON_NEXT[Constants.STATE_STOPPED] = bits(Constants.STATE_INCREMENTING, Constants.STATE_RUNNING);
+        BUTTON_NEXT[Constants.STATE_INCREMENTING] = bits(Constants.STATE_INCREMENTING, Constants.STATE_RUNNING);
+        BUTTON_NEXT[Constants.STATE_RUNNING] = bits(Constants.STATE_STOPPED);
+        BUTTON_NEXT[Constants.STATE_ALARMING] = bits(Constants.STATE_STOPPED);
+        // ticks never reach the stopped state; a backlog may pass through several states
+        TICK_NEXT[Constants.STATE_INCREMENTING] =
+                bits(Constants.STATE_INCREMENTING, Constants.STATE_RUNNING, Constants.STATE_ALARMING);
+        TICK_NEXT[Constants.STATE_RUNNING] = bits(Constants.STATE_RUNNING, Constants.STATE_ALARMING);
+        TICK_NEXT[Constants.STATE_ALARMING] = bits(Constants.STATE_ALARMING);
+    }
+
+    private static int bits(final int... states) {
+        var result = 0;
+        for (final int state : states) {
+            result |= 1 << state;
+        }
+        return result;
+    }
+
+    /**
+     * Checks each handled event, keeping the first violation. Only called by the
+     * dispatching thread, and read after all producers have finished.
+     */
+    private static final class CheckingJournal implements EventJournal {
+
+        int buttons, ticks, restores;
+
+        int state = Constants.STATE_STOPPED;
+
+        String violation;
+
+        @Override
+        public void record(final int event, final int state, final int runtime) {
+            if (runtime < 0 || runtime > Constants.SEC_MAX) {
+                fail("runtime " + runtime + " out of bounds");
+            }
+            switch (event) {
+                case EVENT_INIT:
+                    // part of the press that stops the stopwatch, recorded before it
+                    if (state != Constants.STATE_STOPPED || runtime != 0) {
+                        fail("init into state " + state + " with runtime " + runtime);
+                    }
+                    return;
+                case EVENT_BUTTON:
+                    buttons++;
+                    check(BUTTON_NEXT, "button", state);
+                    break;
+                case EVENT_TICK:
+                    ticks++;
+                    check(TICK_NEXT, "tick", state);
+                    break;
+                case EVENT_RESTORE:
+                    restores++;
+                    if (state != STATE_RUNNING && state != STATE_STOPPED || runtime != RESTORED_RUNTIME) {
+                        fail("restore into state " + state + " with runtime " + runtime);
+                    }
+                    break;
+                default:
+                    fail("unexpected event " + event);
+            }
+            this.state = state;
+        }
+
+        private void check(final int[] next, final String event, final int state) {
+            if ((next[this.state] & 1 << state) == 0) {
+                fail(event + " from state " + this.state + " to state " + state);
+            }
+        }
+
+        private void fail(final String message) {
+            if (violation == null) {
+                violation = message;
+            }
+        }
+    }
+
+    /**
+     * A clock that only keeps track of whether it is started; the timer threads tick regardless,
+     * as a real timer may when a tick is already on its way while the clock is stopped.
+     */
+    private static final class FlagClock implements ClockModel {
+
+        volatile boolean started;
+
+        @Override public void setTickListener(final TickListener listener) { }
+
+        @Override public void start() { started = true; }
+
+        @Override public void stop() { started = false; }
+    }
+
+    /**
+     * Keeps the state last reported to the UI.
+     */
+    private static final class StateListener implements StopwatchModelListener {
+
+        volatile int state = Constants.STATE_STOPPED;
+
+        @Override public void onTimeUpdate(final int timeValue) { }
+
+        @Override public void onStateUpdate(final int stateId) { state = stateId; }
+
+        @Override public void soundAlarm(final int notification_sound) { }
+
+        @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+    }
+
+    /**
+     * Keeps the state and time last reported to the UI, holding the first time
+     * update made on the holder thread until released.
+     */
+    private static final class HoldingListener implements StopwatchModelListener {
+
+        final CountDownLatch held = new CountDownLatch(1), released = new CountDownLatch(1);
+
+        volatile Thread holder;
+
+        volatile int state = Constants.STATE_STOPPED, time;
+
+        @Override
+        public void onTimeUpdate(final int timeValue) {
+            time = timeValue;
+            if (Thread.currentThread() == holder) {
+                holder = null;
+                held.countDown();
+                try {
+                    released.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override public void onStateUpdate(final int stateId) { state = stateId; }
+
+        @Override public void soundAlarm(final int notification_sound) { }
+
+        @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+    }
+}
@@ -0,0 +1,86 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.common.Constants;
+import edu.luc.etl.cs313.android.simplestopwatch.common.StopwatchModelListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.VirtualClockModel;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.EventJournal;
+import edu.luc.etl.cs313.android.simplestopwatch.model.state.TableStopwatchStateMachine;
+import edu.luc.etl.cs313.android.simplestopwatch.model.time.DefaultTimeModel;
+
+/**
+ * Concrete testcase subclass for the table-driven stopwatch state machine
+ * implementation.
+ *
+ * @see http://xunitpatterns.com/Testcase%20Superclass.html
+ */
+public class TableStopwatchStateMachineTest extends AbstractStopwatchStateMachineTest {
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        setModel(new TableStopwatchStateMachine(getDependency(), getDependency()));
+    }
+
+    @After
+    public void tearDown() {
+        setModel(null);
+        super.tearDown();
+    }
+
+    /**
+     * Verifies that with a clock providing timeouts and adjustable ticks, the table
+     * waits for the deadline in Incrementing state and alarms less often while alarming.
+     */
+    @Test
+    public void testTimeoutAndTickPeriods() {
+        final var clock = new VirtualClockModel();
+        final var machine = new TableStopwatchStateMachine(new DefaultTimeModel(), clock);
+        final var state = new AtomicInteger(0);
+        final var alarms = new AtomicInteger(0);
+        machine.setModelListener(new StopwatchModelListener() {
+            @Override public void onTimeUpdate(final int timeValue) { }
+            @Override public void onStateUpdate(final int stateId) { state.set(stateId); }
+            @Override public void soundAlarm(final int notification_sound) { alarms.incrementAndGet(); }
+            @Override public int getUserRuntime() { return Constants.UI_DEFAULT; }
+        });
+        clock.setTickListener(machine);
+        machine.actionInit();
+        machine.onButton();
+        clock.advance(2000);
+        machine.onButton();
+        clock.advance(Constants.TICK_WAIT * Constants.TICK_PERIOD_MILLIS - 1);
+        assertEquals(Constants.STATE_INCREMENTING, state.get());
+        clock.advance(1);
+        assertEquals(Constants.STATE_RUNNING, state.get());
+        assertEquals(1, alarms.get());
+        clock.advance(3 * Constants.TICK_PERIOD_MILLIS);   // 2 -> 0, then -> Alarming
+        assertEquals(Constants.STATE_ALARMING, state.get());
+        clock.advance(Constants.ALARM_PERIOD_MILLIS);
+        assertEquals(2, alarms.get());
+        machine.onButton();
+        assertEquals(Constants.STATE_STOPPED, state.get());
+        assertEquals(0, machine.getRuntime());
+    }
+
+    /**
+     * Verifies that restoring puts the table into the given state and starts the clock.
+     */
+    @Test
+    public void testRestore() {
+        final var machine = new TableStopwatchStateMachine(getDependency(), getDependency());
+        machine.setModelListener(getDependency());
+        machine.restore(EventJournal.STATE_RUNNING, 42);
+        assertEquals(Constants.STATE_RUNNING, getDependency().getState());
+        assertTimeEquals(42);
+        machine.onTick();
+        assertTimeEquals(41);
+    }
+}
@@ -0,0 +1,243 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TickListener;
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.TimingWheel;
+
+/**
+ * Testcase for the timing wheel, stepped through virtual time so that each
+ * timer is expected in the exact step of its deadline.
+ */
+public class TimingWheelTest {
+
+    private static final long RESOLUTION = 10;
+
+    private static final int SLOTS = 8;
+
+    /**
+     * The time one revolution of the wheel takes in milliseconds.
+     */
+    private static final long SPAN = RESOLUTION * SLOTS;
+
+    /**
+     * A timing wheel driven by virtual time, one step at a time.
+     */
+    private static final class SteppedWheel extends TimingWheel {
+
+        private long time;
+
+        SteppedWheel() {
+            super(RESOLUTION, TimeUnit.MILLISECONDS, SLOTS);
+        }
+
+        @Override
+        protected long now() {
+            return time;
+        }
+
+        /**
+         * Advances virtual time step by step, firing the timers due in each step.
+         */
+        void advance(final long millis) {
+            for (var i = 0; i < millis / RESOLUTION; i++) {
+                time += TimeUnit.MILLISECONDS.toNanos(RESOLUTION);
+                advance();
+            }
+        }
+
+        long getTime() {
+            return TimeUnit.NANOSECONDS.toMillis(time);
+        }
+    }
+
+    /**
+     * Records when each firing happens and how many ticks it delivers.
+     */
+    private static final class Recorder implements TickListener {
+
+        private final SteppedWheel wheel;
+
+        final List<Long> times = new ArrayList<>();
+
+        final List<Integer> counts = new ArrayList<>();
+
+        Recorder(final SteppedWheel wheel) {
+            this.wheel = wheel;
+        }
+
+        @Override
+        public void onTick() {
+            onTicks(1);
+        }
+
+        @Override
+        public void onTicks(final int n) {
+            times.add(wheel.getTime());
+            counts.add(n);
+        }
+    }
+
+    /**
+     * Verifies that a periodic timer whose period is one revolution fires once per period.
+     */
+    @Test
+    public void testPeriodOfOneRevolution() {
+        assertPeriodic(SPAN);
+    }
+
+    /**
+     * Verifies that a periodic timer whose period is two revolutions fires once per period.
+     */
+    @Test
+    public void testPeriodOfTwoRevolutions() {
+        assertPeriodic(2 * SPAN);
+    }
+
+    /**
+     * Verifies that a periodic timer shorter than one revolution fires once per period.
+     */
+    @Test
+    public void testPeriodWithinOneRevolution() {
+        assertPeriodic(SPAN - RESOLUTION);
+    }
+
+    /**
+     * Verifies that a one-shot timer beyond one revolution fires once at its deadline
+     * and that a canceled timer does not fire.
+     */
+    @Test
+    public void testOneShotAndCancel() {
+        final var wheel = new SteppedWheel();
+        final var once = new Recorder(wheel);
+        final var canceled = new Recorder(wheel);
+        wheel.schedule(once, 3 * SPAN + RESOLUTION, 0, TimeUnit.MILLISECONDS);
+        final var timeout = wheel.schedule(canceled, SPAN, 0, TimeUnit.MILLISECONDS);
+        assertEquals(2, wheel.size());
+        wheel.advance(RESOLUTION);
+        timeout.cancel();
+        wheel.advance(5 * SPAN);
+        assertEquals(Arrays.asList(3 * SPAN + RESOLUTION), once.times);
+        assertEquals(0, canceled.times.size());
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Verifies that closing the wheel drops all pending timers, including ones not yet
+     * taken up by the driver, and that timers scheduled afterwards never fire.
+     */
+    @Test
+    public void testClose() {
+        final var wheel = new SteppedWheel();
+        final var recorder = new Recorder(wheel);
+        wheel.schedule(recorder, SPAN, SPAN, TimeUnit.MILLISECONDS);
+        wheel.advance(RESOLUTION);
+        wheel.schedule(recorder, RESOLUTION, 0, TimeUnit.MILLISECONDS);
+        assertEquals(2, wheel.size());
+        wheel.close();
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.schedule(recorder, RESOLUTION, 0, TimeUnit.MILLISECONDS).isCanceled());
+        wheel.advance(3 * SPAN);
+        assertEquals(0, recorder.times.size());
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Verifies that a listener may take a lock that is held while calling into the wheel,
+     * as the clock models do, without deadlocking against the driver.
+     */
+    @Test(timeout = 5000)
+    public void testListenerLockOrder() throws InterruptedException {
+        final var wheel = new SteppedWheel();
+        final var lock = new Object();
+        final var firing = new CountDownLatch(1);
+        wheel.schedule(new TickListener() {
+            @Override
+            public void onTick() {
+                firing.countDown();
+                synchronized (lock) {
+                    // wait for the caller below to leave the wheel
+                }
+            }
+        }, RESOLUTION, 0, TimeUnit.MILLISECONDS);
+        final var driver = new Thread(() -> wheel.advance(RESOLUTION));
+        synchronized (lock) {
+            driver.start();
+            firing.await();
+            wheel.close();
+        }
+        driver.join();
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Verifies that a failing listener is counted and reported and that its periodic
+     * timer as well as the other timers keep firing.
+     */
+    @Test
+    public void testFailingListener() {
+        final var wheel = new SteppedWheel();
+        final var recorder = new Recorder(wheel);
+        final var failure = new IllegalStateException();
+        final var reported = new ArrayList<Throwable>();
+        wheel.schedule(new TickListener() {
+            @Override
+            public void onTick() {
+                throw failure;
+            }
+        }, SPAN, SPAN, TimeUnit.MILLISECONDS);
+        wheel.schedule(recorder, SPAN, SPAN, TimeUnit.MILLISECONDS);
+        final var handler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> reported.add(e));
+        try {
+            wheel.advance(2 * SPAN);
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+        assertEquals(Arrays.asList(failure, failure), reported);
+        assertEquals(2, wheel.getMetrics().getFailedTicks());
+        assertEquals(Arrays.asList(SPAN, 2 * SPAN), recorder.times);
+        assertEquals(2, wheel.size());
+    }
+
+    /**
+     * Verifies that closing the wheel cancels its driver on the scheduler.
+     */
+    @Test
+    public void testCloseCancelsDriver() {
+        final var scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        try {
+            final var wheel = new TimingWheel(scheduler, RESOLUTION, TimeUnit.MILLISECONDS, SLOTS);
+            assertEquals(1, scheduler.getQueue().size());
+            wheel.close();
+            assertEquals(0, scheduler.getQueue().size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static void assertPeriodic(final long period) {
+        final var wheel = new SteppedWheel();
+        final var recorder = new Recorder(wheel);
+        wheel.schedule(recorder, period, period, TimeUnit.MILLISECONDS);
+        wheel.advance(5 * period);
+        final var expected = new ArrayList<Long>();
+        for (var i = 1; i <= 5; i++) {
+            expected.add(i * period);
+        }
+        assertEquals(expected, recorder.times);
+        assertEquals(Arrays.asList(1, 1, 1, 1, 1), recorder.counts);
+        assertEquals(1, wheel.size());
+    }
+}
@@ -0,0 +1,114 @@
+package edu.luc.etl.cs313.android.simplestopwatch.test.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.luc.etl.cs313.android.simplestopwatch.model.clock.VirtualClockModel;
+
+/**
+ * Concrete testcase subclass for the virtual clock model implementation.
+ * Time passes by advancing the virtual clock instead of sleeping.
+ *
+ * @see http://xunitpatterns.com/Testcase%20Superclass.html
+ */
+public class VirtualClockModelTest extends AbstractClockModelTest {
+
+    private VirtualClockModel clock;
+
+    @Before
+    public void setUp() throws Exception {
+        clock = new VirtualClockModel();
+        setModel(clock);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        setModel(null);
+    }
+
+    @Override
+    protected void sleep(final long millis) {
+        clock.advance(millis);
+    }
+
+    /**
+     * Verifies that advancing by many hours fires exactly one tick per virtual second.
+     */
+    @Test
+    public void testRunningForHours() {
+        final var i = new AtomicInteger(0);
+        clock.setTickListener(i::incrementAndGet);
+        clock.start();
+        clock.advance(TimeUnit.HOURS.toMillis(10) + 500);
+        clock.stop();
+        assertEquals(10 * 3600, i.get());
+    }
+
+    /**
+     * Verifies that the partial second elapsed before a stop counts toward the next tick.
+     */
+    @Test
+    public void testPartialSecondCarriedOver() {
+        final var i = new AtomicInteger(0);
+        clock.setTickListener(i::incrementAndGet);
+        clock.start();
+        clock.advance(600);
+        clock.stop();
+        clock.advance(5000);
+        clock.start();
+        clock.advance(399);
+        assertEquals(0, i.get());
+        clock.advance(1);
+        assertEquals(1, i.get());
+    }
+
+    /**
+     * Verifies that a changed tick period takes effect from now and that
+     * a zero period suspends the ticks while the clock remains started.
+     */
+    @Test
+    public void testTickPeriodAdjusted() {
+        final var i = new AtomicInteger(0);
+        clock.setTickListener(i::incrementAndGet);
+        clock.start();
+        clock.advance(900);
+        clock.setTickPeriod(250);
+        clock.advance(1000);
+        assertEquals(4, i.get());
+        clock.setTickPeriod(0);
+        clock.advance(5000);
+        assertEquals(4, i.get());
+        clock.setTickPeriod(1000);
+        clock.advance(1000);
+        assertEquals(5, i.get());
+    }
+
+    /**
+     * Verifies that a timeout expires exactly at its virtual deadline, in order with
+     * the ticks, and that re-arming pushes the deadline back.
+     */
+    @Test
+    public void testTimeoutOnDeadline() {
+        final var ticks = new AtomicInteger(0);
+        final var expiredAt = new AtomicInteger(-1);
+        clock.setTickListener(ticks::incrementAndGet);
+        clock.start();
+        clock.armTimeout(TimeUnit.MILLISECONDS.toNanos(1500), () -> expiredAt.set(ticks.get()));
+        clock.advance(1000);
+        clock.armTimeout(TimeUnit.MILLISECONDS.toNanos(1500), () -> expiredAt.set(ticks.get()));
+        clock.advance(1499);
+        assertEquals(-1, expiredAt.get());
+        clock.advance(1);
+        assertEquals(2, expiredAt.get());
+        clock.armTimeout(TimeUnit.MILLISECONDS.toNanos(100), () -> expiredAt.set(0));
+        clock.cancelTimeout();
+        clock.advance(1000);
+        assertEquals(2, expiredAt.get());
+    }
+}